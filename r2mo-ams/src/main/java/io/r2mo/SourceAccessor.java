@@ -0,0 +1,99 @@
+package io.r2mo;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 🔍 字段访问器缓存（{@link SourceReflect} 内部专用）
+ * <pre>
+ * 1. 以 (Class, fieldName) 为键，首次访问时完成字段查找、setAccessible 以及 {@link MethodHandle} 的构造
+ * 2. 后续访问直接使用缓存的 getter / setter，不再遍历字段、不再调用 setAccessible
+ * 3. 字段不存在时缓存 {@link #MISSING} 哨兵，避免重复的失败查找
+ * 4. 外层使用 {@link ClassValue}，类卸载时缓存随之释放；访问路径不构造任何复合键对象
+ * </pre>
+ * 说明：字段本身无法通过 LambdaMetafactory 生成函数式接口实现（只支持方法），所以此处统一使用已经 asType
+ * 到 (Object)Object / (Object,Object)void 签名的 {@link MethodHandle}，JIT 可对其做内联。
+ *
+ * @author lang : 2026-10-18
+ */
+@Slf4j
+final class SourceAccessor {
+
+    private static final SourceAccessor MISSING = new SourceAccessor(null, null, null);
+
+    private static final MethodType TYPE_GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType TYPE_SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<ConcurrentMap<String, SourceAccessor>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<String, SourceAccessor> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Field field;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    private SourceAccessor(final Field field, final MethodHandle getter, final MethodHandle setter) {
+        this.field = field;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    static SourceAccessor of(final Class<?> clazz, final String name) {
+        final ConcurrentMap<String, SourceAccessor> accessors = ACCESSORS.get(clazz);
+        // 命中时不进入 computeIfAbsent，避免其内部的锁竞争
+        final SourceAccessor found = accessors.get(name);
+        if (Objects.nonNull(found)) {
+            return found;
+        }
+        return accessors.computeIfAbsent(name, key -> build(clazz, key));
+    }
+
+    private static SourceAccessor build(final Class<?> clazz, final String name) {
+        final Field field = SourceReflect.fieldN(clazz, name);
+        if (Objects.isNull(field)) {
+            return MISSING;
+        }
+        try {
+            field.setAccessible(true);
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final MethodHandle getter = lookup.unreflectGetter(field).asType(TYPE_GETTER);
+            MethodHandle setter;
+            try {
+                setter = lookup.unreflectSetter(field).asType(TYPE_SETTER);
+            } catch (final IllegalAccessException ex) {
+                // final 字段等无法生成 setter 句柄的场景，写入时退回 Field.set
+                setter = null;
+            }
+            return new SourceAccessor(field, getter, setter);
+        } catch (final RuntimeException | IllegalAccessException ex) {
+            log.warn("[ R2MO ] 类 {} 字段 {} 无法访问，详情: {}", clazz.getName(), name, ex.getMessage());
+            return MISSING;
+        }
+    }
+
+    boolean isMissing() {
+        return MISSING == this;
+    }
+
+    Object get(final Object instance) throws Throwable {
+        return (Object) this.getter.invokeExact(instance);
+    }
+
+    void set(final Object instance, final Object value) throws Throwable {
+        if (Objects.isNull(this.setter)) {
+            this.field.set(instance, value);
+            return;
+        }
+        this.setter.invokeExact(instance, value);
+    }
+}
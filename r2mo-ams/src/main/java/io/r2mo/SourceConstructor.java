@@ -0,0 +1,130 @@
+package io.r2mo;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 🔍 构造函数解析缓存（{@link SourceReflect#instance(Class, Object...)} 内部专用）
+ * <pre>
+ * 1. 以 Class + 参数类型签名为键（null 参数在签名中以 null 占位），缓存匹配成功的构造函数
+ * 2. 缓存值为已经 spread 成 (Object[])Object 的 {@link MethodHandle}，后续直接 invokeExact
+ * 3. 未匹配到构造函数时不缓存，保持原有的异常语义
+ * 4. 命中 / 未命中计数可通过 {@link SourceReflect#instanceHit()} / {@link SourceReflect#instanceMiss()} 读取
+ * </pre>
+ *
+ * @author lang : 2026-10-18
+ */
+final class SourceConstructor {
+
+    private static final ClassValue<ConcurrentMap<List<Class<?>>, MethodHandle>> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<List<Class<?>>, MethodHandle> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final LongAdder HIT = new LongAdder();
+    private static final LongAdder MISS = new LongAdder();
+
+    private SourceConstructor() {
+    }
+
+    /**
+     * 查找构造函数句柄，找不到时返回 null
+     *
+     * @param clazzImpl 类类型
+     * @param args      构造参数
+     *
+     * @return (Object[]) Object 签名的构造函数句柄
+     * @throws IllegalAccessException 构造函数无法访问
+     */
+    static MethodHandle of(final Class<?> clazzImpl, final Object[] args) throws IllegalAccessException {
+        final List<Class<?>> signature = signature(args);
+        final ConcurrentMap<List<Class<?>>, MethodHandle> cached = CONSTRUCTORS.get(clazzImpl);
+        MethodHandle handle = cached.get(signature);
+        if (Objects.nonNull(handle)) {
+            HIT.increment();
+            return handle;
+        }
+        MISS.increment();
+        final Constructor<?> ctor = resolve(clazzImpl, args);
+        if (Objects.isNull(ctor)) {
+            return null;
+        }
+        ctor.setAccessible(true);
+        final MethodHandle found = MethodHandles.lookup().unreflectConstructor(ctor);
+        handle = found.asType(found.type().generic()).asSpreader(Object[].class, args.length);
+        final MethodHandle existing = cached.putIfAbsent(signature, handle);
+        return Objects.isNull(existing) ? handle : existing;
+    }
+
+    static long hit() {
+        return HIT.sum();
+    }
+
+    static long miss() {
+        return MISS.sum();
+    }
+
+    private static List<Class<?>> signature(final Object[] args) {
+        final Class<?>[] types = new Class<?>[args.length];
+        for (int i = 0; i < args.length; i++) {
+            types[i] = Objects.isNull(args[i]) ? null : args[i].getClass();
+        }
+        return Arrays.asList(types);
+    }
+
+    private static Constructor<?> resolve(final Class<?> clazzImpl, final Object[] args) {
+        if (0 == args.length) {
+            // 无参构造，Fix Accessible 问题（私有也可访问）
+            try {
+                return clazzImpl.getDeclaredConstructor();
+            } catch (final NoSuchMethodException ex) {
+                return null;
+            }
+        }
+
+        // 获取所有构造函数（含 private）
+        final Constructor<?>[] ctors = clazzImpl.getDeclaredConstructors();
+        for (final Constructor<?> ctor : ctors) {
+            final Class<?>[] ctorTypes = ctor.getParameterTypes();
+            if (ctorTypes.length != args.length) {
+                continue; // 参数数量不匹配
+            }
+
+            boolean match = true;
+            for (int i = 0; i < ctorTypes.length; i++) {
+                final Object arg = args[i];
+                final Class<?> paramType = ctorTypes[i];
+
+                if (arg == null) {
+                    // null 可匹配任意非原始类型
+                    if (paramType.isPrimitive()) {
+                        match = false;
+                        break;
+                    }
+                    continue;
+                }
+
+                final Class<?> argType = arg.getClass();
+                // 关键逻辑：允许接口、抽象类、父类匹配
+                if (!paramType.isAssignableFrom(argType)) {
+                    match = false;
+                    break;
+                }
+            }
+
+            if (match) {
+                return ctor;
+            }
+        }
+        return null;
+    }
+}
@@ -5,6 +5,7 @@ import io.r2mo.function.Fn;
 import io.r2mo.typed.cc.Cc;
 import lombok.extern.slf4j.Slf4j;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.*;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -19,7 +20,7 @@ import java.util.stream.Stream;
  * 提供以下能力：
  * 1. 单例获取与实例化工具（singleton / instance）
  * 2. 类接口实现关系检查（isImplement）
- * 3. 对象字段的安全读写（value 读 / value 写）
+ * 3. 对象字段的安全读写（value 读 / value 写），按 (Class, 字段名) 缓存访问器，见 {@link SourceAccessor}
  * 4. 泛型类型参数获取（classT0 / classT1）
  * 5. 字段查找（包含父类层级 fieldN / field）
  * </pre>
@@ -84,59 +85,39 @@ public final class SourceReflect {
     @SuppressWarnings("unchecked")
     public static <T> T instance(final Class<?> clazzImpl, final Object... args) {
         try {
-            if (args == null || args.length == 0) {
-                // 无参构造，Fix Accessible 问题（私有也可访问）
-                final Constructor<T> constructor = (Constructor<T>) clazzImpl.getDeclaredConstructor();
-                constructor.setAccessible(true);
-                return constructor.newInstance();
+            final Object[] arguments = Objects.isNull(args) ? new Object[0] : args;
+            // 构造函数解析结果按 Class + 参数类型签名缓存，重复构造时不再扫描构造函数
+            final MethodHandle constructor = SourceConstructor.of(clazzImpl, arguments);
+            if (Objects.isNull(constructor)) {
+                throw new IllegalStateException(
+                        "[ R2MO ] 没有找到匹配的构造函数：" + clazzImpl.getName()
+                );
             }
-
-            // 获取所有构造函数（含 private）
-            final Constructor<?>[] ctors = clazzImpl.getDeclaredConstructors();
-            for (final Constructor<?> ctor : ctors) {
-                final Class<?>[] ctorTypes = ctor.getParameterTypes();
-                if (ctorTypes.length != args.length) {
-                    continue; // 参数数量不匹配
-                }
-
-                boolean match = true;
-                for (int i = 0; i < ctorTypes.length; i++) {
-                    final Object arg = args[i];
-                    final Class<?> paramType = ctorTypes[i];
-
-                    if (arg == null) {
-                        // null 可匹配任意非原始类型
-                        if (paramType.isPrimitive()) {
-                            match = false;
-                            break;
-                        }
-                        continue;
-                    }
-
-                    final Class<?> argType = arg.getClass();
-                    // 关键逻辑：允许接口、抽象类、父类匹配
-                    if (!paramType.isAssignableFrom(argType)) {
-                        match = false;
-                        break;
-                    }
-                }
-
-                if (match) {
-                    ctor.setAccessible(true);
-                    @SuppressWarnings("unchecked") final T instance = (T) ctor.newInstance(args);
-                    return instance;
-                }
-            }
-
-            throw new IllegalStateException(
-                    "[ R2MO ] 没有找到匹配的构造函数：" + clazzImpl.getName()
-            );
-        } catch (final Exception ex) {
+            return (T) (Object) constructor.invokeExact(arguments);
+        } catch (final Throwable ex) {
             log.error(ex.getMessage(), ex);
             throw new IllegalStateException("[ R2MO ] 实例化对象失败！", ex);
         }
     }
 
+    /**
+     * 构造函数缓存命中次数（{@link #instance(Class, Object...)} / {@link #singleton(Class, Object...)}）
+     *
+     * @return 命中次数
+     */
+    public static long instanceHit() {
+        return SourceConstructor.hit();
+    }
+
+    /**
+     * 构造函数缓存未命中次数，每次未命中都会执行一次完整的构造函数扫描
+     *
+     * @return 未命中次数
+     */
+    public static long instanceMiss() {
+        return SourceConstructor.miss();
+    }
+
     public static <T> T instance(final String className, final Object... params) {
         final Class<?> clazz = clazz(className);
         if (Objects.isNull(clazz)) {
@@ -201,15 +182,13 @@ public final class SourceReflect {
         if (entity == null || field == null || field.isEmpty() || entityCls == null) {
             return null;
         }
+        final SourceAccessor accessor = SourceAccessor.of(entityCls, field);
+        if (accessor.isMissing()) {
+            return null;
+        }
         try {
-            final Field f = fieldN(entityCls, field);
-            if (f == null) {
-                return null;
-            }
-            f.setAccessible(true);
-            final Object val = f.get(entity);
-            return (V) val;
-        } catch (final Exception ex) {
+            return (V) accessor.get(entity);
+        } catch (final Throwable ex) {
             log.error(ex.getMessage(), ex);
             return null;
         }
@@ -230,11 +209,15 @@ public final class SourceReflect {
      */
     public static <T, V> void value(final T instance, final String name, final V value) {
         if (Objects.nonNull(instance) && Objects.nonNull(name)) {
+            final SourceAccessor accessor = SourceAccessor.of(instance.getClass(), name);
+            if (accessor.isMissing()) {
+                log.warn("[ R2MO ] 类 {} 设置异常，详情: {}", instance.getClass(), name);
+                return;
+            }
             try {
-                final Field field = instance.getClass().getDeclaredField(name);
-                value(instance, field, value);
-            } catch (final NoSuchFieldException ex) {
-                log.warn("[ R2MO ] 类 {} 设置异常，详情: {}", instance.getClass(), ex.getMessage());
+                accessor.set(instance, value);
+            } catch (final Throwable ex) {
+                log.error("[ R2MO ] 类 {} 字段 {} 设置异常，详情: {}", instance.getClass(), name, ex.getMessage(), ex);
             }
         }
     }
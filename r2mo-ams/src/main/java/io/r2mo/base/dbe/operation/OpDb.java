@@ -12,4 +12,11 @@ public interface OpDb<T> {
     T execute(T entity, OpType opType);
 
     List<T> execute(List<T> entities, OpType opType, int batchSize);
+
+    /*
+     * 批量保存（原生 UPSERT），不先读取已存在数据，实现不支持时退化为 SAVE 的比对保存
+     */
+    default List<T> upsert(final List<T> entities, final int batchSize) {
+        return this.execute(entities, OpType.SAVE, batchSize);
+    }
 }
@@ -6,6 +6,8 @@ import io.r2mo.typed.common.Pagination;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 /**
  * @author lang : 2025-08-28
@@ -26,6 +28,27 @@ public interface OpVary<T, CONDITION> {
 
     List<T> findAll();
 
+    /**
+     * 游标流式读取，底层结果集在 Stream 关闭时释放，调用方必须使用 try-with-resources 关闭
+     *
+     * @param condition 查询条件，为 null 时读取全表
+     * @param fetchSize 游标每次从数据库拉取的行数
+     *
+     * @return 实体流
+     */
+    Stream<T> findStream(CONDITION condition, int fetchSize);
+
+    /**
+     * 流式分组，按分组字段排序后以游标方式逐行读取，分组键变化时回调一次，内存中只保留当前分组
+     *
+     * @param condition 查询条件，为 null 时读取全表
+     * @param groupBy   分组字段（实体属性名）
+     * @param fetchSize 游标每次从数据库拉取的行数
+     * @param consumer  分组回调，按排序顺序连续的同键数据回调一次；排序规则不区分大小写 / 重音时同一个键可能多次回调，调用方需合并
+     * @param <K>       分组键类型
+     */
+    <K> void findGroupBy(CONDITION condition, String groupBy, int fetchSize, BiConsumer<K, List<T>> consumer);
+
     Optional<T> findOne(CONDITION condition);
 
     boolean removeById(Serializable id);
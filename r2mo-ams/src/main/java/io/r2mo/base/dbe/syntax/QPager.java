@@ -2,30 +2,62 @@ package io.r2mo.base.dbe.syntax;
 
 import io.r2mo.base.dbe.constant.QCV;
 import io.r2mo.spi.SPI;
+import io.r2mo.typed.json.JArray;
 import io.r2mo.typed.json.JObject;
 import lombok.Getter;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
 
 /**
+ * 分页参数
+ * <pre>
+ *     1. 偏移分页（默认）：page / size，转换成 OFFSET / LIMIT
+ *     2. 游标分页（seek = true）：按排序键定位，after 为上一页返回的游标（{@link io.r2mo.typed.common.Pagination#getNext()}），
+ *        第一页不传 after，生成 WHERE (k1, k2) > (?, ?) 条件，深分页性能不随页码下降
+ *     3. count = false 时跳过总数统计，返回的 count 为 -1
+ *     4. countAsync = true 时总数统计与数据查询并行执行（独立连接）
+ *     5. countTtl 大于 0 时按查询条件缓存总数（秒），适用于总数允许短时间不精确的列表页
+ * </pre>
+ *
  * @author lang : 2025-08-28
  */
 @Getter
 public class QPager implements Serializable, QRequest {
     private static final String PAGE = "page";
     private static final String SIZE = "size";
+    private static final String SEEK = "seek";
+    private static final String AFTER = "after";
+    private static final String COUNT = "count";
+    private static final String COUNT_ASYNC = "countAsync";
+    private static final String COUNT_TTL = "countTtl";
 
     // ---- Pager 特殊方法
     private final int page;     // 第几页，从1开始
     private final int size;     // 每页多少条
     private final int start;    // 开始索引，从0开始
     private final int end;      // 结束索引，非包含
+    private final boolean seek; // 游标分页
+    private final String after; // 游标分页：上一页最后一行的排序键
+    private final boolean count;// 是否统计总数
+    private final boolean countAsync;   // 总数统计是否并行执行
+    private final int countTtl;         // 总数缓存时间（秒），0 表示不缓存
 
-    private QPager(final int page, final int size) {
+    private QPager(final int page, final int size, final boolean seek, final String after,
+                   final boolean count, final boolean countAsync, final int countTtl) {
         this.page = page;
         this.size = size;
         this.start = (page - 1) * size;
         this.end = this.page * size;        // page 从 1 开始
+        this.seek = seek;
+        this.after = after;
+        this.count = count;
+        this.countAsync = countAsync;
+        this.countTtl = countTtl;
     }
 
     public static <T> QPager of(final T json) {
@@ -35,7 +67,49 @@ public class QPager implements Serializable, QRequest {
     public static QPager of(final JObject pageJ) {
         final int page = pageJ.getInt(PAGE, 1);
         final int size = pageJ.getInt(SIZE, 10);
-        return new QPager(page, size);
+        final String after = pageJ.getString(AFTER);
+        final boolean seek = pageJ.getBool(SEEK, false) || (Objects.nonNull(after) && !after.isBlank());
+        final boolean count = pageJ.getBool(COUNT, true);
+        final boolean countAsync = pageJ.getBool(COUNT_ASYNC, false);
+        final int countTtl = Math.max(0, pageJ.getInt(COUNT_TTL, 0));
+        return new QPager(page, size, seek, after, count, countAsync, countTtl);
+    }
+
+    /**
+     * 将最后一行的排序键编码为游标（URL 安全的 Base64 JSON 数组）
+     *
+     * @param values 排序键的值，顺序与排序字段一致
+     *
+     * @return 游标
+     */
+    public static String seekToken(final List<Object> values) {
+        final JArray valueA = SPI.A();
+        values.forEach(value -> {
+            if (Objects.isNull(value) || value instanceof Number || value instanceof Boolean) {
+                valueA.add(value);
+            } else {
+                valueA.add(value.toString());
+            }
+        });
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(valueA.encode().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 解码后的排序键，第一页（无游标）返回空列表
+     */
+    @SuppressWarnings("unchecked")
+    public List<Object> seekValues() {
+        if (Objects.isNull(this.after) || this.after.isBlank()) {
+            return new ArrayList<>();
+        }
+        final String json;
+        try {
+            json = new String(Base64.getUrlDecoder().decode(this.after), StandardCharsets.UTF_8);
+        } catch (final IllegalArgumentException ex) {
+            throw new IllegalArgumentException("[ R2MO ] 游标格式错误：" + this.after, ex);
+        }
+        return new ArrayList<>(SPI.A(json).toList());
     }
 
     @Override
@@ -54,6 +128,21 @@ public class QPager implements Serializable, QRequest {
         final JObject data = SPI.J();
         data.put(PAGE, this.page);
         data.put(SIZE, this.size);
+        if (this.seek) {
+            data.put(SEEK, true);
+            if (Objects.nonNull(this.after)) {
+                data.put(AFTER, this.after);
+            }
+        }
+        if (!this.count) {
+            data.put(COUNT, false);
+        }
+        if (this.countAsync) {
+            data.put(COUNT_ASYNC, true);
+        }
+        if (0 < this.countTtl) {
+            data.put(COUNT_TTL, this.countTtl);
+        }
         return data;
     }
 
@@ -2,6 +2,7 @@ package io.r2mo.base.io;
 
 import cn.hutool.core.io.IoUtil;
 import io.r2mo.base.io.common.FileMem;
+import io.r2mo.base.io.common.FileZip;
 import io.r2mo.base.io.modeling.FileRange;
 import io.r2mo.typed.common.Binary;
 import io.r2mo.typed.exception.web._501NotSupportException;
@@ -14,8 +15,11 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
@@ -276,6 +280,25 @@ public interface HStore extends HStoreMeta, Serializable {
 
     Binary inBinary(Set<String> files, Set<FileMem> memSet, HProgressor progressRef);
 
+    /*
+     * 流式压缩，压缩包直接写出到调用方提供的 OutputStream / WritableByteChannel，不在内存中构造完整压缩包，
+     * 适用于批量导出场景。调用方负责关闭 out，返回值为写出的压缩包字节数。
+     * 使用独立的方法名 inBinaryTo，避免与 inBinary(Set, Set, HProgressor) 在传入 null 时产生重载歧义
+     * */
+    default long inBinaryTo(final Set<String> files, final Set<FileMem> memSet, final OutputStream out) {
+        return this.inBinaryTo(files, memSet, out, FileZip.of(), null);
+    }
+
+    default long inBinaryTo(final Set<String> files, final Set<FileMem> memSet,
+                            final WritableByteChannel channel, final FileZip zip, final HProgressor progressRef) {
+        return this.inBinaryTo(files, memSet, Channels.newOutputStream(channel), zip, progressRef);
+    }
+
+    default long inBinaryTo(final Set<String> files, final Set<FileMem> memSet,
+                            final OutputStream out, final FileZip zip, final HProgressor progressRef) {
+        throw new _501NotSupportException("[ R2MO ] 当前实现类不支持流式压缩：HStore.inBinaryTo(Set, Set, OutputStream, FileZip, HProgressor)");
+    }
+
     Binary inBinary(String filename, FileRange fileRange, HProgressor progressorRef);
 
     // ---------------- 公私钥专用
@@ -0,0 +1,58 @@
+package io.r2mo.base.io.common;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.io.Serializable;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.Deflater;
+
+/**
+ * 压缩包输出配置，配合 {@link io.r2mo.base.io.HStore} 的流式压缩方法使用
+ * <pre>
+ *     - level：压缩级别，参考 {@link Deflater}，默认 {@link Deflater#DEFAULT_COMPRESSION}
+ *     - stored：扩展名（不含点，小写）命中时使用 STORED 模式直接存储，已压缩的文件再次压缩只会浪费 CPU
+ *     - parallel：并行压缩的线程数，大于 1 时各条目在线程池中并行压缩后按顺序组装，默认 0 表示单线程顺序压缩
+ * </pre>
+ *
+ * @author lang : 2026-10-18
+ */
+@Data
+@Accessors(fluent = true)
+public class FileZip implements Serializable {
+
+    private static final Set<String> STORED_DEFAULT = Set.of(
+        "zip", "gz", "tgz", "bz2", "xz", "7z", "rar", "jar",
+        "jpg", "jpeg", "png", "gif", "webp",
+        "mp3", "mp4", "mov", "avi", "mkv",
+        "docx", "xlsx", "pptx", "pdf"
+    );
+
+    private int level = Deflater.DEFAULT_COMPRESSION;
+    private Set<String> stored = STORED_DEFAULT;
+    private int parallel = 0;
+
+    public static FileZip of() {
+        return new FileZip();
+    }
+
+    public static FileZip ofParallel() {
+        return new FileZip().parallel(Runtime.getRuntime().availableProcessors());
+    }
+
+    public boolean isParallel() {
+        return 1 < this.parallel;
+    }
+
+    public boolean isStored(final String filename) {
+        if (filename == null || this.stored == null || this.stored.isEmpty()) {
+            return false;
+        }
+        final int dot = filename.lastIndexOf('.');
+        if (dot < 0 || dot == filename.length() - 1) {
+            return false;
+        }
+        return this.stored.contains(filename.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+}
@@ -33,6 +33,7 @@ public class StoreChunk extends AbstractStoreObject {
     private Long byteFrom;         // 起始字节
     private Long byteTo;           // 结束字节
     private String checksum;       // 校验码
+    private String digest;         // 写入时计算的实际摘要（SHA-256）
     private Boolean done;          // 是否完成
 
     private String fullFileName;   // 文件名称
@@ -20,12 +20,30 @@ public interface Cc<K, V> {
         return CcUtil.poolThread(input, supplier);
     }
 
+    /**
+     * {@link #pool(ConcurrentMap, Object, Supplier)} 的初始化争用指标（全局）
+     */
+    static <J> J momPool() {
+        return CcUtil.momPool().data();
+    }
+
     static <K, V> Cc<K, V> open() {
         return new CcSingle<>();
     }
 
+    /**
+     * 线程级缓存，默认使用线程名作为 Key（{@link CcThread}），
+     * 系统属性 {@code r2mo.cc.thread=local} 时切换为 {@link ThreadLocal} 实现（{@link CcLocal}）
+     */
     static <V> Cc<String, V> openThread() {
-        return new CcThread<>();
+        return CcLocal.ENABLED ? new CcLocal<>() : new CcThread<>();
+    }
+
+    /**
+     * 基于 {@link ThreadLocal} 的线程级缓存，无字符串分配，虚拟线程之间互不共享
+     */
+    static <V> Cc<String, V> openLocal() {
+        return new CcLocal<>();
     }
 
     ConcurrentMap<K, V> get();
@@ -0,0 +1,232 @@
+package io.r2mo.typed.cc;
+
+import io.r2mo.typed.json.JArray;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 基于 {@link ThreadLocal} 的线程级缓存，与 {@link CcThread} 的区别
+ * <pre>
+ *     1. 不使用线程名拼接 Key，读写时没有字符串分配；虚拟线程的线程名为空字符串，
+ *        在 {@link CcThread} 中会共享同一份“线程级”实例，此处每个线程（含虚拟线程）各自独立
+ *     2. 无标记（marker）的实例直接存放在线程槽位中，带标记的实例存放在线程私有的 Map 中
+ *     3. 全局登记表是无锁的并发集合，只弱引用线程，登记数超过上限或遍历时清理已结束线程的槽位，
+ *        新线程首次访问时不会竞争全局锁
+ * </pre>
+ * 方法分为两类：
+ * <pre>
+ *     - 按 marker 读写（get(key) / put / pick / containsKey / remove）只作用于当前线程
+ *     - 集合视图（get() / keySet / values / size / isEmpty / containsValue / clear）作用于所有存活线程，
+ *       统一以 {@link #get()} 快照为准，Key 为 index 或 index@marker，包含无标记的槽位
+ * </pre>
+ * forEach 与 {@link CcThread} 一致不支持。
+ *
+ * @author lang : 2026-10-18
+ */
+class CcLocal<V> implements Cc<String, V> {
+    static final boolean ENABLED = "local".equalsIgnoreCase(System.getProperty("r2mo.cc.thread"));
+
+    // 登记表清理阈值的下限，超过阈值时清理一次并把阈值调整为存活数量的两倍，均摊到每次登记为常数开销
+    private static final int PRUNE = 1024;
+
+    private final Set<Entry<V>> registry = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger limit = new AtomicInteger(PRUNE);
+    private final ThreadLocal<Slot<V>> local = ThreadLocal.withInitial(this::register);
+
+    private Slot<V> register() {
+        final Slot<V> slot = new Slot<>();
+        this.registry.add(new Entry<>(Thread.currentThread(), slot));
+        final int bound = this.limit.get();
+        if (this.registry.size() > bound && this.limit.compareAndSet(bound, Integer.MAX_VALUE)) {
+            this.prune();
+            this.limit.set(Math.max(PRUNE, 2 * this.registry.size()));
+        }
+        return slot;
+    }
+
+    @Override
+    public ConcurrentMap<String, V> get() {
+        // 只读快照，Key 格式与 CcThread 保持一致：index 或 index@marker
+        final ConcurrentMap<String, V> snapshot = new ConcurrentHashMap<>();
+        final int[] index = {0};
+        this.slots().forEach(slot -> {
+            final String prefix = String.valueOf(index[0]++);
+            if (Objects.nonNull(slot.value)) {
+                snapshot.put(prefix, slot.value);
+            }
+            slot.marked.forEach((marker, value) -> snapshot.put(prefix + "@" + marker, value));
+        });
+        return snapshot;
+    }
+
+    @Override
+    public V get(final String key) {
+        return this.getOrDefault(key, null);
+    }
+
+    @Override
+    public V getOrDefault(final String key, final V defaultValue) {
+        final V value = this.local.get().get(key);
+        return Objects.isNull(value) ? defaultValue : value;
+    }
+
+    @Override
+    public Cc<String, V> put(final String key, final V value) {
+        this.local.get().put(key, value);
+        return this;
+    }
+
+    @Override
+    public Cc<String, V> putAll(final Map<String, V> map) {
+        map.forEach(this::put);
+        return this;
+    }
+
+    @Override
+    public V pick(final Supplier<V> supplier) {
+        return this.pick(supplier, null);
+    }
+
+    @Override
+    public V pick(final Supplier<V> supplier, final String key) {
+        Objects.requireNonNull(supplier, "[ R2MO ] poolFn 参数不可为空！");
+        // 槽位只被当前线程写入，无需加锁；get / put 分开执行，supplier 内部递归调用不会冲突
+        final Slot<V> slot = this.local.get();
+        V value = slot.get(key);
+        if (Objects.isNull(value)) {
+            value = supplier.get();
+            if (Objects.nonNull(value)) {
+                slot.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(this.get().keySet());
+    }
+
+    @Override
+    public Collection<V> values() {
+        return Collections.unmodifiableCollection(this.get().values());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.slots().stream().allMatch(Slot::isEmpty);
+    }
+
+    @Override
+    public boolean containsKey(final String key) {
+        return Objects.nonNull(this.local.get().get(key));
+    }
+
+    @Override
+    public boolean containsValue(final V value) {
+        return this.values().contains(value);
+    }
+
+    @Override
+    public boolean remove(final String key) {
+        this.local.get().put(key, null);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        this.slots().forEach(Slot::clear);
+    }
+
+    @Override
+    public void forEach(final BiConsumer<String, V> consumer) {
+        throw new UnsupportedOperationException("[ R2MO ] 线程模式不支持方法 forEach(BiConsumer<String,V>) 的调用！");
+    }
+
+    @Override
+    public int size() {
+        return this.get().size();
+    }
+
+    @Override
+    public <J> J mom() {
+        final JArray memory = CcUtil.momThread(this.get());
+        return memory.data();
+    }
+
+    @Override
+    public boolean momThread() {
+        return true;
+    }
+
+    private Collection<Slot<V>> slots() {
+        this.prune();
+        final Collection<Slot<V>> slots = new ArrayList<>();
+        this.registry.forEach(entry -> slots.add(entry.slot));
+        return slots;
+    }
+
+    private void prune() {
+        this.registry.removeIf(entry -> !entry.alive());
+    }
+
+    /*
+     * 登记项只弱引用线程，线程结束后槽位在下一次清理时移除；按对象标识比较
+     */
+    private static final class Entry<V> {
+        private final WeakReference<Thread> thread;
+        private final Slot<V> slot;
+
+        private Entry(final Thread thread, final Slot<V> slot) {
+            this.thread = new WeakReference<>(thread);
+            this.slot = slot;
+        }
+
+        private boolean alive() {
+            final Thread owner = this.thread.get();
+            return Objects.nonNull(owner) && owner.isAlive();
+        }
+    }
+
+    /*
+     * 线程槽位，只由所属线程写入；clear / values 可能来自其他线程，因此使用 volatile + ConcurrentHashMap
+     */
+    private static final class Slot<V> {
+        private final ConcurrentMap<String, V> marked = new ConcurrentHashMap<>();
+        private volatile V value;
+
+        private V get(final String marker) {
+            return (Objects.isNull(marker) || marker.isBlank()) ? this.value : this.marked.get(marker);
+        }
+
+        private void put(final String marker, final V value) {
+            if (Objects.isNull(marker) || marker.isBlank()) {
+                this.value = value;
+            } else if (Objects.isNull(value)) {
+                this.marked.remove(marker);
+            } else {
+                this.marked.put(marker, value);
+            }
+        }
+
+        private boolean isEmpty() {
+            return Objects.isNull(this.value) && this.marked.isEmpty();
+        }
+
+        private void clear() {
+            this.value = null;
+            this.marked.clear();
+        }
+    }
+}
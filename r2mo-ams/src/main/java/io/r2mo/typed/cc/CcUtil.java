@@ -10,6 +10,8 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 /**
@@ -18,6 +20,11 @@ import java.util.function.Supplier;
 class CcUtil {
 
     private static final ConcurrentMap<String, Set<String>> KEY_MAP = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Slot, ReentrantLock> IN_FLIGHT = new ConcurrentHashMap<>();
+    private static final LongAdder METRIC_MISS = new LongAdder();
+    private static final LongAdder METRIC_INIT = new LongAdder();
+    private static final LongAdder METRIC_CONTENDED = new LongAdder();
+    private static final LongAdder METRIC_WAIT = new LongAdder();
 
     static <K, V> JArray momThread(final ConcurrentMap<String, V> store) {
         // 1. 准备返回数组
@@ -137,10 +144,13 @@ class CcUtil {
     }
 
     // ==================================================================================
-    // 【核心修改】 使用 synchronized + 双重检查锁 (DCL)
-    // 解决了并发重复初始化问题，且支持递归调用
+    // 【核心修改】 按 Key 加锁 + 双重检查 (DCL)
+    // 1. 每个 (pool, key) 在初始化期间持有独立的 ReentrantLock，慢速的 poolFn 只阻塞同一个 Key 的并发请求，
+    //    同一个 Cc 中其他 Key 的初始化不受影响
+    // 2. ReentrantLock 可重入，poolFn 内部递归调用本方法（同 Key 或其他 Key）不会出现
+    //    computeIfAbsent 的 Recursive update 异常
+    // 3. 初始化完成后从 IN_FLIGHT 中移除锁对象，锁表只保留正在初始化的 Key
     // ==================================================================================
-    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
     static <K, V> V pool(final ConcurrentMap<K, V> pool, final K key, final Supplier<V> poolFn) {
         Objects.requireNonNull(pool, "[ R2MO ] pool 参数不可为空！");
         Objects.requireNonNull(key, "[ R2MO ] key 参数不可为空！");
@@ -148,23 +158,76 @@ class CcUtil {
 
         // 1. 第一重检查：无锁读取，保证初始化后的高性能
         V value = pool.get(key);
-
-        if (value == null) {
-            // 2. 加锁：锁住当前的 Map 容器
-            // synchronized 是可重入锁，如果 poolFn 内部递归调用了本方法，
-            // 只要是同一个线程，就可以再次获得锁，从而避免了 computeIfAbsent 的 Recursive update 异常
-            synchronized (pool) {
-                // 3. 第二重检查：防止并发间隙中被其他线程初始化
-                value = pool.get(key);
-                if (value == null) {
-                    // 4. 执行初始化 (SPI 查找、反射等耗时操作)
-                    value = poolFn.get();
-                    if (value != null) {
-                        pool.put(key, value);
-                    }
+        if (value != null) {
+            return value;
+        }
+        METRIC_MISS.increment();
+
+        // 2. 加锁：只锁住当前 Key 的初始化槽位
+        final Slot slot = new Slot(pool, key);
+        final ReentrantLock lock = IN_FLIGHT.computeIfAbsent(slot, k -> new ReentrantLock());
+        if (!lock.tryLock()) {
+            // 其他线程正在初始化同一个 Key，记录争用次数与等待时长
+            METRIC_CONTENDED.increment();
+            final long start = System.nanoTime();
+            lock.lock();
+            METRIC_WAIT.add(System.nanoTime() - start);
+        }
+        try {
+            // 3. 第二重检查：防止并发间隙中被其他线程初始化
+            value = pool.get(key);
+            if (value == null) {
+                // 4. 执行初始化 (SPI 查找、反射等耗时操作)
+                METRIC_INIT.increment();
+                value = poolFn.get();
+                if (value != null) {
+                    pool.put(key, value);
                 }
             }
+        } finally {
+            // 5. 最外层持有者退出时移除槽位，等待中的线程持有同一个锁对象，唤醒后第二重检查即可命中
+            if (1 == lock.getHoldCount() && !lock.hasQueuedThreads()) {
+                IN_FLIGHT.remove(slot, lock);
+            }
+            lock.unlock();
         }
         return value;
     }
+
+    /**
+     * 初始化争用指标
+     * <pre>
+     *     - miss：第一重检查未命中的次数
+     *     - init：实际执行 poolFn 的次数
+     *     - contended：等待其他线程初始化同一个 Key 的次数
+     *     - waitMs：累计等待时长（毫秒）
+     *     - inFlight：当前正在初始化的 Key 数量
+     * </pre>
+     *
+     * @return 指标数据
+     */
+    static JObject momPool() {
+        final JObject memory = SPI.J();
+        memory.put("miss", METRIC_MISS.sum());
+        memory.put("init", METRIC_INIT.sum());
+        memory.put("contended", METRIC_CONTENDED.sum());
+        memory.put("waitMs", METRIC_WAIT.sum() / 1_000_000L);
+        memory.put("inFlight", IN_FLIGHT.size());
+        return memory;
+    }
+
+    /*
+     * 初始化槽位，pool 按引用比较：不同 Cc 中相同的 Key 互不影响
+     */
+    private record Slot(Object pool, Object key) {
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof final Slot slot && this.pool == slot.pool && this.key.equals(slot.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(this.pool) + this.key.hashCode();
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package io.r2mo.typed.common;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 
 import java.util.ArrayList;
@@ -10,8 +11,10 @@ import java.util.List;
  * <pre>
  *     {
  *         "count": ??,
- *         "list": []
+ *         "list": [],
+ *         "next": "游标分页时下一页的游标，没有更多数据时不输出"
  *     }
+ *     count = -1 表示本次查询跳过了总数统计
  * </pre>
  *
  * @author lang : 2025-08-28
@@ -22,4 +25,7 @@ public class Pagination<T> {
     private List<T> list = new ArrayList<>();
 
     private long count = 0;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String next;
 }
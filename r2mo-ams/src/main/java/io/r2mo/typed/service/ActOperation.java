@@ -4,8 +4,11 @@ import io.r2mo.typed.common.Pagination;
 import io.r2mo.typed.json.JObject;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * 特殊用法而已，如果遇到其他的后期来扩展
@@ -46,6 +49,19 @@ public interface ActOperation<T> {
 
     ActResponse<List<T>> findMany(Map<String, Object> criteria);
 
+    // 流式导出：按批次回调，默认实现退化为 findMany 后切分，支持游标的实现应覆盖此方法
+    default ActResponse<Long> findBatch(final JObject criteria, final int batchSize, final Consumer<List<T>> consumer) {
+        final List<T> queried = this.findMany(criteria).data();
+        if (Objects.isNull(queried) || queried.isEmpty()) {
+            return ActResponse.success(0L, ActState.SUCCESS_204_NO_DATA);
+        }
+        final int size = Math.max(1, batchSize);
+        for (int start = 0; start < queried.size(); start += size) {
+            consumer.accept(new ArrayList<>(queried.subList(start, Math.min(queried.size(), start + size))));
+        }
+        return ActResponse.success((long) queried.size());
+    }
+
     ActResponse<T> findOne(JObject criteria);
 
     ActResponse<T> findOne(Map<String, Object> criteria);
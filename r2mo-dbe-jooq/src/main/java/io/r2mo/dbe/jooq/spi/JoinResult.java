@@ -16,18 +16,17 @@ import org.jooq.Record;
 import org.jooq.Result;
 import org.jooq.TableField;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 /**
  * @author lang : 2025-10-26
  */
 class JoinResult {
-    private static final Cc<String, JoinResult> CC_RESULT = Cc.openThread();
+    private static final Cc<String, JoinResult> CC_RESULT = Cc.openLocal();
     private final DBRef ref;
     private final Map<String, Map<String, String>> aliasOut = new HashMap<>();
 
@@ -47,8 +46,10 @@ class JoinResult {
 
     JArray toResponse(final Result<Record> result) {
         final JArray array = SPI.A();
+        // 同一个 Result 中所有记录的列结构一致，映射计划只需计算一次
+        final List<Step> plan = this.plan(result.fields());
         for (final Record record : result) {
-            final JObject item = this.toResponse(record);
+            final JObject item = this.toResponse(record, plan);
             array.add(item.data());
         }
         return array;
@@ -68,22 +69,81 @@ class JoinResult {
      * @return JObject
      */
     JObject toResponse(final Record record) {
-        final Field<?>[] fields = record.fields();
+        return this.toResponse(record, this.plan(record.fields()));
+    }
+
+    /*
+     * 按计划逐列写入，计划中已经按主实体优先的顺序排列，别名与属性映射也已提前解析，
+     * 运行时只剩下按索引取值和重名检查（空值不写入，因此重名检查只能逐行进行）
+     */
+    private JObject toResponse(final Record record, final List<Step> plan) {
         final JObject result = SPI.J();
-        final ConcurrentMap<String, Set<Field<?>>> grouped = new ConcurrentHashMap<>();
-        for (final Field<?> field : fields) {
-            final Kv<String, String> kv = this.findAlias(field);
-            grouped.computeIfAbsent(kv.key(), k -> ConcurrentHashMap.newKeySet()).add(field);
+        for (final Step step : plan) {
+            final Object value = record.get(step.index());
+            // 空值不添加到结果中
+            if (Objects.isNull(value)) {
+                continue;
+            }
+            if (!result.containsKey(step.guard()) && !result.containsKey(step.output())) {
+                result.put(step.output(), value);
+            }
+        }
+        return result;
+    }
+
+    /*
+     * 映射计划：列索引 -> 输出属性，顺序为主实体在前、辅助实体在后
+     */
+    private List<Step> plan(final Field<?>[] fields) {
+        final Map<String, List<Integer>> grouped = new HashMap<>();
+        for (int idx = 0; idx < fields.length; idx++) {
+            final Kv<String, String> kv = this.findAlias(fields[idx]);
+            grouped.computeIfAbsent(kv.key(), k -> new ArrayList<>()).add(idx);
         }
 
+        final List<Step> plan = new ArrayList<>(fields.length);
         // 主实体优先处理
         final DBNode found = this.ref.find();
-        this.setValue(result, record, grouped, found);
+        this.plan(plan, fields, grouped, found);
 
         // 辅助实体后续处理
         this.ref.findByExclude(found.entity()).forEach(each ->
-            this.setValue(result, record, grouped, each));
-        return result;
+            this.plan(plan, fields, grouped, each));
+        return plan;
+    }
+
+    private void plan(final List<Step> plan, final Field<?>[] fields,
+                      final Map<String, List<Integer>> grouped, final DBNode found) {
+        final String prefix = this.ref.seekAlias(found.entity());
+        final Map<String, String> aliasMap = this.aliasOut.get(found.table());
+        final List<Integer> indexes = grouped.get(prefix);
+        if (Objects.isNull(indexes)) {
+            return;
+        }
+        final R2Vector vector = found.vector();
+        for (final int idx : indexes) {
+            final Kv<String, String> kv = this.findAlias(fields[idx]);
+            final String vProperty = found.vProperty(kv.value());
+            if (Objects.nonNull(aliasMap) && aliasMap.containsKey(vProperty)) {
+                // 别名填充后，主实体就不会填充属性了，辅助实体就可以填充
+                final String aliasName = aliasMap.get(vProperty);
+                plan.add(new Step(idx, aliasName, aliasName));
+            } else if (vector.hasMapping()) {
+                // 映射后的字段名也需要检查是否已存在，避免覆盖
+                plan.add(new Step(idx, vProperty, vector.mapTo(vProperty)));
+            } else {
+                // 主表字段，直接填
+                plan.add(new Step(idx, vProperty, vProperty));
+            }
+        }
+    }
+
+    /**
+     * @param index  列索引
+     * @param guard  已存在时跳过的属性名
+     * @param output 输出属性名
+     */
+    private record Step(int index, String guard, String output) {
     }
 
     private Kv<String, String> findAlias(final Field<?> field) {
@@ -101,50 +161,4 @@ class JoinResult {
         }
         throw new _501NotSupportException("[ R2MO ] 无法解析 JOOQ Field 的别名信息: " + field);
     }
-
-    private void setValue(final JObject result, final Record record, final ConcurrentMap<String, Set<Field<?>>> grouped,
-                          final DBNode found) {
-        // 提取主实体字段
-        final String prefix = this.ref.seekAlias(found.entity());
-        final Map<String, String> aliasMap = this.aliasOut.get(found.table());
-        final Set<Field<?>> fieldSet = grouped.get(prefix);
-        fieldSet.forEach(field -> {
-            // 提取值
-            final Object value = record.get(field);
-            // 空值不添加到结果中
-            if (Objects.isNull(value)) {
-                return;
-            }
-            final Kv<String, String> kv = this.findAlias(field);
-            final String vProperty = found.vProperty(kv.value());
-            if (Objects.nonNull(aliasMap) && aliasMap.containsKey(vProperty)) {
-                // 别名填充后，主实体就不会填充属性了，辅助实体就可以填充
-                final String aliasName = aliasMap.get(vProperty);
-                // 别名也需要检查是否已存在，避免覆盖
-                if (!result.containsKey(aliasName)) {
-                    result.put(aliasName, value);
-                }
-            } else {
-                // 主表属性直接填充
-                if (!result.containsKey(vProperty)) {
-                    this.setValue(result, vProperty, value, found);
-                }
-            }
-        });
-    }
-
-    private void setValue(final JObject result, final String vProperty, final Object value,
-                          final DBNode found) {
-        final R2Vector vector = found.vector();
-        if (vector.hasMapping()) {
-            final String vPropertyOut = vector.mapTo(vProperty);
-            // 映射后的字段名也需要检查是否已存在，避免覆盖
-            if (!result.containsKey(vPropertyOut)) {
-                result.put(vPropertyOut, value);
-            }
-        } else {
-            // 主表字段，直接填
-            result.put(vProperty, value);
-        }
-    }
 }
@@ -8,16 +8,23 @@ import io.r2mo.dbe.jooq.core.domain.JooqMeta;
 import io.r2mo.typed.common.Pagination;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.OrderField;
+import org.jooq.Record;
+import org.jooq.Result;
 import org.jooq.SelectConditionStep;
 import org.jooq.SelectForUpdateStep;
 import org.jooq.SelectLimitStep;
+import org.jooq.SelectSeekStepN;
 import org.jooq.SelectWhereStep;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -82,6 +89,9 @@ class JooqComplex {
 
     public SelectForUpdateStep<?> where(final QQuery query) {
         final SelectConditionStep<?> stepQr = this.selectFor(query.criteria());
+        if (Objects.nonNull(query.pager()) && query.pager().isSeek()) {
+            return this.seekFor(stepQr, this.seekKeys(query.sorter()), query.pager(), query.pager().getSize());
+        }
 
         final SelectLimitStep<?> stepOrders = this.selectFor(stepQr, query.sorter());
 
@@ -90,6 +100,10 @@ class JooqComplex {
 
     @SuppressWarnings("unchecked")
     public <PAGE> PAGE page(final QQuery query) {
+        final QPager pager = query.pager();
+        if (Objects.nonNull(pager) && pager.isSeek()) {
+            return (PAGE) this.pageSeek(query, pager);
+        }
         final Pagination<?> pagination = new Pagination<>();
 
         final SelectConditionStep<?> stepQr = this.selectFor(query.criteria());
@@ -105,12 +119,85 @@ class JooqComplex {
 
         final SelectForUpdateStep<?> stepFinal = this.selectFor(stepOrders, query.pager());
 
+        final Supplier<Long> counted = this.count(countQr, query.pager());
         final List<?> totalList = stepFinal.fetchInto(this.meta.entityCls());
         pagination.setList(this.toList(totalList));
-        pagination.setCount(countQr.fetchStream().count());
+        pagination.setCount(counted.get());
         return (PAGE) pagination;
     }
 
+    /*
+     * 游标分页：排序键之后多取一行用于判断是否还有下一页，最后一行的排序键编码为下一页游标
+     */
+    private Pagination<?> pageSeek(final QQuery query, final QPager pager) {
+        final Pagination<Object> pagination = new Pagination<>();
+        final List<SeekKey> keys = this.seekKeys(query.sorter());
+
+        final Supplier<Long> counted = this.count(this.selectFor(query.criteria()), pager);
+        final Result<?> result = this.seekFor(this.selectFor(query.criteria()), keys, pager, pager.getSize() + 1).fetch();
+        final boolean more = pager.getSize() < result.size();
+        final List<? extends Record> rows = more ? result.subList(0, pager.getSize()) : result;
+
+        rows.forEach(row -> pagination.getList().add(row.into(this.meta.entityCls())));
+        if (more) {
+            final Record last = rows.get(rows.size() - 1);
+            final List<Object> values = new ArrayList<>();
+            keys.forEach(key -> values.add(last.get(key.column())));
+            pagination.setNext(QPager.seekToken(values));
+        }
+        pagination.setCount(counted.get());
+        return pagination;
+    }
+
+    private SelectForUpdateStep<?> seekFor(final SelectConditionStep<?> stepQr, final List<SeekKey> keys,
+                                           final QPager pager, final int limit) {
+        final SelectSeekStepN<?> ordered = stepQr.orderBy(keys.stream().map(SeekKey::order).toList());
+        final List<Object> after = pager.seekValues();
+        if (after.isEmpty()) {
+            return ordered.limit(limit);
+        }
+        if (after.size() != keys.size()) {
+            throw new IllegalArgumentException("[ R2MO ] 游标与排序字段不匹配：" + after.size() + " / " + keys.size());
+        }
+        // 游标中的值按列类型还原，保证与数据库中的排序键类型一致
+        final Object[] values = new Object[keys.size()];
+        for (int idx = 0; idx < keys.size(); idx++) {
+            values[idx] = keys.get(idx).column().getDataType().convert(after.get(idx));
+        }
+        return ordered.seek(values).limit(limit);
+    }
+
+    /*
+     * 游标分页要求排序键唯一，排序字段中不包含主键时追加主键（升序）作为最后一个排序键
+     */
+    private List<SeekKey> seekKeys(final QSorter sorter) {
+        final List<SeekKey> keys = new ArrayList<>();
+        final Set<String> names = new HashSet<>();
+        if (Objects.nonNull(sorter)) {
+            sorter.items().forEach(kv -> {
+                final Field<?> column = this.meta.findColumn(kv.key());
+                if (Objects.nonNull(column) && names.add(column.getName())) {
+                    keys.add(new SeekKey(column, kv.value()));
+                }
+            });
+        }
+        final String primaryKey = this.meta.keyPrimary();
+        if (Objects.nonNull(primaryKey)) {
+            final Field<?> column = this.meta.findColumn(primaryKey);
+            if (Objects.nonNull(column) && names.add(column.getName())) {
+                keys.add(new SeekKey(column, true));
+            }
+        }
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("[ R2MO ] 游标分页缺少排序字段：" + this.meta.tableName());
+        }
+        return keys;
+    }
+
+    private Supplier<Long> count(final SelectConditionStep<?> countQr, final QPager pager) {
+        return JooqCount.begin(this.context, countQr, pager, () -> this.context.fetchCount(countQr));
+    }
+
     @SuppressWarnings("unchecked")
     private <T> List<T> toList(final List<?> list) {
         if (list == null) {
@@ -120,4 +207,10 @@ class JooqComplex {
             .map(item -> (T) item)
             .collect(Collectors.toList());
     }
+
+    private record SeekKey(Field<?> column, boolean asc) {
+        OrderField<?> order() {
+            return this.asc ? this.column.asc() : this.column.desc();
+        }
+    }
 }
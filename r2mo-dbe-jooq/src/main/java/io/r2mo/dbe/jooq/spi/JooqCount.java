@@ -0,0 +1,118 @@
+package io.r2mo.dbe.jooq.spi;
+
+import io.r2mo.base.dbe.syntax.QPager;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.ConnectionProvider;
+import org.jooq.DSLContext;
+import org.jooq.Select;
+import org.jooq.impl.DataSourceConnectionProvider;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 分页查询中的总数统计
+ * <pre>
+ *     1. count = false：不统计，直接返回 -1
+ *     2. countTtl > 0：按数据源分别缓存，以内联参数后的 COUNT 语句为键缓存总数，命中时不访问数据库
+ *     3. countAsync = true：总数统计提交到独立线程池与数据查询并行执行，每个查询使用各自的连接
+ * </pre>
+ * 调用方先 {@link #begin} 启动统计，数据查询完成后再调用返回的 Supplier 取结果。
+ *
+ * @author lang : 2026-10-18
+ */
+@Slf4j
+class JooqCount {
+    private static final int CACHE_CAPACITY = 1024;
+    // 数据源 = ( COUNT 语句 = 总数 )，相同表名的不同数据源互不影响，数据源回收后缓存随之释放
+    private static final Map<Object, ConcurrentMap<String, Counted>> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+        Math.max(2, Runtime.getRuntime().availableProcessors()), new Factory());
+
+    private JooqCount() {
+    }
+
+    static Supplier<Long> begin(final DSLContext context, final Select<?> countQr,
+                                final QPager pager, final LongSupplier counter) {
+        if (Objects.nonNull(pager) && !pager.isCount()) {
+            return () -> -1L;
+        }
+        final int ttl = Objects.isNull(pager) ? 0 : pager.getCountTtl();
+        final String key = 0 < ttl ? context.renderInlined(countQr) : null;
+        final ConcurrentMap<String, Counted> cache = Objects.isNull(key) ? null : cache(context);
+        if (Objects.nonNull(key)) {
+            final Counted cached = cache.get(key);
+            if (Objects.nonNull(cached) && !cached.isExpired(System.currentTimeMillis())) {
+                return cached::count;
+            }
+        }
+        final Supplier<Long> executor = () -> {
+            final long count = counter.getAsLong();
+            if (Objects.nonNull(key)) {
+                put(cache, key, new Counted(count, System.currentTimeMillis() + ttl * 1000L));
+            }
+            return count;
+        };
+        if (Objects.isNull(pager) || !pager.isCountAsync()) {
+            return executor;
+        }
+        final CompletableFuture<Long> future = CompletableFuture.supplyAsync(executor, EXECUTOR);
+        return () -> {
+            try {
+                return future.join();
+            } catch (final CompletionException ex) {
+                if (ex.getCause() instanceof final RuntimeException cause) {
+                    throw cause;
+                }
+                throw ex;
+            }
+        };
+    }
+
+    private static ConcurrentMap<String, Counted> cache(final DSLContext context) {
+        final ConnectionProvider provider = context.configuration().connectionProvider();
+        final Object source = (provider instanceof final DataSourceConnectionProvider sourced)
+            ? sourced.dataSource() : provider;
+        return CACHE.computeIfAbsent(source, k -> new ConcurrentHashMap<>());
+    }
+
+    private static void put(final ConcurrentMap<String, Counted> cache, final String key, final Counted counted) {
+        if (CACHE_CAPACITY <= cache.size()) {
+            final long now = System.currentTimeMillis();
+            cache.values().removeIf(item -> item.isExpired(now));
+            if (CACHE_CAPACITY <= cache.size()) {
+                cache.clear();
+            }
+        }
+        cache.put(key, counted);
+    }
+
+    private record Counted(long count, long expiredAt) {
+        boolean isExpired(final long now) {
+            return now > this.expiredAt;
+        }
+    }
+
+    private static class Factory implements ThreadFactory {
+        private final AtomicInteger index = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "r2mo-count-" + this.index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
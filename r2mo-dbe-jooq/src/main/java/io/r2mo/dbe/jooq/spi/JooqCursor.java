@@ -0,0 +1,66 @@
+package io.r2mo.dbe.jooq.spi;
+
+import org.jooq.ConnectionProvider;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.exception.DataAccessException;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 游标读取期间独占的一条连接，处理 fetchSize 生效所需的方言差异
+ * <pre>
+ *     - PostgreSQL：驱动只有在 autocommit 关闭时才按 fetchSize 使用服务端游标，
+ *       否则一次性读入全部结果；连接处于 autocommit 时读取期间关闭，结束后恢复（提交只读事务）
+ *     - MySQL / MariaDB：Connector/J 只有在连接属性 useCursorFetch=true 时才按 fetchSize 分批拉取，
+ *       HikariBuilderMySQL 默认下发该属性，其他方式创建的数据源需要自行配置，否则 fetchSize 会被忽略
+ * </pre>
+ * 已处于事务中的连接（autocommit 已关闭）保持原状，游标与事务共用同一条连接
+ *
+ * @author lang : 2025-10-19
+ */
+class JooqCursor implements AutoCloseable {
+    private final ConnectionProvider provider;
+    private final Connection connection;
+    private final boolean restore;
+    private final DSLContext context;
+
+    private JooqCursor(final DSLContext executor) {
+        this.provider = executor.configuration().connectionProvider();
+        this.connection = this.provider.acquire();
+        try {
+            this.restore = SQLDialect.POSTGRES == executor.dialect().family()
+                && this.connection.getAutoCommit();
+            if (this.restore) {
+                this.connection.setAutoCommit(false);
+            }
+        } catch (final SQLException ex) {
+            this.provider.release(this.connection);
+            throw new DataAccessException("[ R2MO ] ( Jooq ) 游标连接初始化失败", ex);
+        }
+        this.context = executor.configuration().derive(this.connection).dsl();
+    }
+
+    static JooqCursor open(final DSLContext executor) {
+        return new JooqCursor(executor);
+    }
+
+    DSLContext context() {
+        return this.context;
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (this.restore) {
+                // 重新开启 autocommit 会提交当前只读事务
+                this.connection.setAutoCommit(true);
+            }
+        } catch (final SQLException ex) {
+            throw new DataAccessException("[ R2MO ] ( Jooq ) 游标连接恢复 autocommit 失败", ex);
+        } finally {
+            this.provider.release(this.connection);
+        }
+    }
+}
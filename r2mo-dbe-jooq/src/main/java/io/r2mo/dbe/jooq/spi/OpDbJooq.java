@@ -7,19 +7,26 @@ import io.r2mo.typed.common.Compared;
 import lombok.extern.slf4j.Slf4j;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.InsertOnDuplicateSetMoreStep;
+import org.jooq.InsertOnDuplicateSetStep;
 import org.jooq.InsertSetMoreStep;
 import org.jooq.InsertSetStep;
 import org.jooq.InsertValuesStepN;
 import org.jooq.Query;
 import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
 import org.jooq.TableField;
+import org.jooq.TableRecord;
 import org.jooq.UniqueKey;
 import org.jooq.UpdateConditionStep;
 import org.jooq.impl.DSL;
 
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -32,6 +39,17 @@ import java.util.Set;
  */
 @Slf4j
 class OpDbJooq<T> extends AbstractDbJooq<T> implements OpDb<T> {
+    /*
+     * onDuplicateKeyUpdate 可由 jOOQ 按方言翻译的数据库：
+     * MySQL / MariaDB -> ON DUPLICATE KEY UPDATE，PostgreSQL / YugabyteDB / SQLite / DuckDB -> ON CONFLICT DO UPDATE，
+     * H2 / HSQLDB / Firebird -> MERGE，其他方言退回查询比对的保存流程
+     */
+    private static final Set<SQLDialect> UPSERT = EnumSet.of(
+        SQLDialect.MYSQL, SQLDialect.MARIADB,
+        SQLDialect.POSTGRES, SQLDialect.YUGABYTEDB, SQLDialect.SQLITE, SQLDialect.DUCKDB,
+        SQLDialect.H2, SQLDialect.HSQLDB, SQLDialect.FIREBIRD
+    );
+    private static final int BIND_LIMIT = 65535;
     private final QrManyJooq<T> qrMany;
 
     // SPI -> QrAnalyzer -> 也可以自己定义
@@ -65,11 +83,16 @@ class OpDbJooq<T> extends AbstractDbJooq<T> implements OpDb<T> {
         // Fix Issue: 类 class java.util.ArrayList 设置异常，详情: key | io.r2mo.SourceReflect
         entities.forEach(entity -> this.setter.setPrimaryKey(entity, opType));
 
+        /*
+         * 批量操作按 batchSize 切片执行，每一片独立提交给数据库，避免单条超大 SQL 超出 max_allowed_packet，
+         * 同时每一片的 Record 只在当前切片内构造，不会一次性将所有实体转换成 Record 驻留在内存中
+         */
+        final int size = 0 < batchSize ? batchSize : entities.size();
         return switch (opType) {
-            case CREATE -> this.insertBatch(entities);
-            case UPDATE -> this.updateBatch(entities);
+            case CREATE -> this.insertBatch(entities, size);
+            case UPDATE -> this.updateBatch(entities, size);
             case REMOVE -> this.remoteBatch(entities);
-            case SAVE -> this.saveBatch(entities);
+            case SAVE -> this.saveBatch(entities, size);
         };
     }
 
@@ -108,19 +131,20 @@ class OpDbJooq<T> extends AbstractDbJooq<T> implements OpDb<T> {
         return entity;
     }
 
-    private List<T> saveBatch(final List<T> entities) {
-        final List<Object> ids = this.meta.keyPrimary(entities);
+    private List<T> saveBatch(final List<T> entities, final int batchSize) {
         final String primaryKey = this.meta.keyPrimary();
+        final List<T> processed = new ArrayList<>();
+        // 按切片读取已存在数据，IN 条件的长度同样受 batchSize 约束
+        for (final List<T> chunk : this.chunks(entities, batchSize)) {
+            final List<Object> ids = this.meta.keyPrimary(chunk);
+            final Condition condition = this.analyzer().whereIn(primaryKey, ids);
+            final List<T> stored = this.qrMany.findMany(condition);
 
 
-        final Condition condition = this.analyzer().whereIn(this.meta.keyPrimary(), ids);
-        final List<T> stored = this.qrMany.findMany(condition);
-
-
-        final Compared<T> compared = R2MO.elementDiff(stored, entities, primaryKey);
-        final List<T> processed = new ArrayList<>();
-        processed.addAll(this.insertBatch(compared.queueC()));
-        processed.addAll(this.updateBatch(compared.queueU()));
+            final Compared<T> compared = R2MO.elementDiff(stored, chunk, primaryKey);
+            processed.addAll(this.insertBatch(compared.queueC(), batchSize));
+            processed.addAll(this.updateBatch(compared.queueU(), batchSize));
+        }
 
 
         final int rows = processed.size();
@@ -128,6 +152,54 @@ class OpDbJooq<T> extends AbstractDbJooq<T> implements OpDb<T> {
         return processed;
     }
 
+    @Override
+    public List<T> upsert(final List<T> entities, final int batchSize) {
+        if (Objects.isNull(entities) || entities.isEmpty()) {
+            return new ArrayList<>();
+        }
+        final int size = 0 < batchSize ? batchSize : entities.size();
+        final SQLDialect dialect = this.executor().dialect().family();
+        if (!UPSERT.contains(dialect) || Objects.isNull(this.meta.table().getPrimaryKey())) {
+            this.logDebug("{} --> 方言 {} 不支持原生 UPSERT，退回比对保存", this.meta.tableName(), dialect);
+            return this.saveBatch(entities, size);
+        }
+        // 主键为空的记录按新增处理，先填充主键，保证每条记录都能命中主键冲突判断
+        this.setter.setPrimaryKey(entities);
+        // 多行 VALUES 的绑定变量总数受驱动限制（MySQL / PostgreSQL 均为 65535），按列数收缩每条语句的行数
+        final int columns = Math.max(1, this.meta.table().fields().length);
+        final int rowsPerStatement = Math.max(1, Math.min(size, BIND_LIMIT / columns));
+        long rows = 0;
+        for (final List<T> chunk : this.chunks(entities, rowsPerStatement)) {
+            rows += this.upsertChunk(chunk);
+        }
+        this.logInfo("{} --> 批量保存数据（UPSERT），切片大小：{}，影响行数：`{}`", this.meta.tableName(), rowsPerStatement, rows);
+        return entities;
+    }
+
+    /*
+     * 单个切片一条多行 UPSERT 语句：绑定变量方式提交（不内联字面量），冲突时非主键列取本次插入的值（DSL.excluded），
+     * 渲染结果按方言为 ON DUPLICATE KEY UPDATE col = VALUES(col) / ON CONFLICT DO UPDATE SET col = EXCLUDED.col / MERGE
+     */
+    @SuppressWarnings("all")
+    private int upsertChunk(final List<T> chunk) {
+        final Table<?> table = this.meta.table();
+        final Field<?>[] fields = table.fields();
+        final InsertValuesStepN<?> insertStep = this.executor().insertInto(table, fields);
+        for (final T entity : chunk) {
+            insertStep.values(this.setter.createRecord(entity).intoArray());
+        }
+        final Set<Field<?>> keys = new HashSet<>(table.getPrimaryKey().getFields());
+        final InsertOnDuplicateSetStep<?> duplicated = insertStep.onDuplicateKeyUpdate();
+        InsertOnDuplicateSetMoreStep<?> updated = null;
+        for (final Field<?> field : fields) {
+            if (!keys.contains(field)) {
+                updated = excluded(duplicated, field);
+            }
+        }
+        // 所有列均为主键时没有可更新的列，冲突即忽略
+        return Objects.isNull(updated) ? insertStep.onDuplicateKeyIgnore().execute() : updated.execute();
+    }
+
     // 插入 / 批量插入
     public T insert(final T entity) {
         final InsertSetMoreStep<?> insertStep = this.executor()
@@ -138,19 +210,46 @@ class OpDbJooq<T> extends AbstractDbJooq<T> implements OpDb<T> {
         return entity;
     }
 
-    private List<T> insertBatch(final List<T> entities) {
+    private List<T> insertBatch(final List<T> entities, final int batchSize) {
+        if (entities.isEmpty()) {
+            return new ArrayList<>();
+        }
         this.setter.setPrimaryKey(entities);
+        long rows = 0;
+        int index = 0;
+        for (final List<T> chunk : this.chunks(entities, batchSize)) {
+            final int chunkRows = this.insertChunk(chunk);
+            rows += chunkRows;
+            this.logDebug("{} --> 批量插入切片 #{}，数量：{}，影响行数：`{}`",
+                this.meta.tableName(), index++, chunk.size(), chunkRows);
+        }
+        this.logInfo("{} --> 批量插入数据，切片大小：{}，影响行数：`{}`", this.meta.tableName(), batchSize, rows);
+        return entities;
+    }
+
+    /**
+     * 单个切片的插入，生成表对应的 {@link TableRecord} 时走 jOOQ 的 batchInsert，相同 SQL 的记录会复用同一个
+     * PreparedStatement 以 JDBC batch 的方式提交；若表为动态构造（无 TableRecord）则退化为当前切片的多行 VALUES。
+     */
+    private int insertChunk(final List<T> chunk) {
+        final List<Record> records = new ArrayList<>(chunk.size());
+        boolean tableRecord = true;
+        for (final T pojo : chunk) {
+            final Record record = this.setter.createRecord(pojo);
+            tableRecord = tableRecord && record instanceof TableRecord<?>;
+            records.add(record);
+        }
+        if (tableRecord) {
+            final List<TableRecord<?>> batched = new ArrayList<>(records.size());
+            records.forEach(record -> batched.add((TableRecord<?>) record));
+            return this.affected(this.executor().batchInsert(batched).execute());
+        }
         final InsertSetStep<?> insertStep = this.executor().insertInto(this.meta.table());
         InsertValuesStepN<?> insertValuesStepN = null;
-        for (final T pojo : entities) {
-            insertValuesStepN = insertStep.values(this.setter.createRecord(pojo).intoArray());
-        }
-        if (Objects.isNull(insertValuesStepN)) {
-            return new ArrayList<>();
+        for (final Record record : records) {
+            insertValuesStepN = insertStep.values(record.intoArray());
         }
-        final int rows = insertValuesStepN.execute();
-        this.logInfo("{} --> 批量插入数据，影响行数：`{}`", this.meta.tableName(), rows);
-        return entities;
+        return Objects.isNull(insertValuesStepN) ? 0 : insertValuesStepN.execute();
     }
 
     // 更新 / 批量更新
@@ -161,19 +260,54 @@ class OpDbJooq<T> extends AbstractDbJooq<T> implements OpDb<T> {
         return entity;
     }
 
-    private List<T> updateBatch(final List<T> entities) {
-        final List<Query> batchOps = new ArrayList<>();
-        entities.stream().map(this::updateStep).forEach(batchOps::add);
-        final int[] rows = this.executor().batch(batchOps).execute();
-        final long updated = Arrays.stream(rows).filter(value -> 1 == value).count();
-        this.logInfo("{} --> 批量更新数据，影响行数：`{}/{}`", this.meta.tableName(), updated, rows.length);
+    private List<T> updateBatch(final List<T> entities, final int batchSize) {
+        if (entities.isEmpty()) {
+            return new ArrayList<>();
+        }
+        long updated = 0;
+        for (final List<T> chunk : this.chunks(entities, batchSize)) {
+            final List<Query> batchOps = new ArrayList<>(chunk.size());
+            chunk.stream().map(this::updateStep).forEach(batchOps::add);
+            updated += this.affected(this.executor().batch(batchOps).execute());
+        }
+        this.logInfo("{} --> 批量更新数据，影响行数：`{}/{}`", this.meta.tableName(), updated, entities.size());
         return entities;
     }
 
+    private static <F> InsertOnDuplicateSetMoreStep<?> excluded(final InsertOnDuplicateSetStep<?> step, final Field<F> field) {
+        return step.set(field, DSL.excluded(field));
+    }
+
+    /*
+     * 切片视图，直接使用 subList 不复制原始数据
+     */
+    private List<List<T>> chunks(final List<T> entities, final int batchSize) {
+        final int size = entities.size();
+        final int step = 0 < batchSize ? batchSize : size;
+        final List<List<T>> chunks = new ArrayList<>((size + step - 1) / step);
+        for (int start = 0; start < size; start += step) {
+            chunks.add(entities.subList(start, Math.min(size, start + step)));
+        }
+        return chunks;
+    }
+
+    /*
+     * JDBC batch 在部分驱动中（如 MySQL rewriteBatchedStatements=true）会返回 SUCCESS_NO_INFO，此时按 1 行计算
+     */
+    private int affected(final int[] rows) {
+        return Arrays.stream(rows)
+            .map(value -> Statement.SUCCESS_NO_INFO == value ? 1 : Math.max(value, 0))
+            .sum();
+    }
+
     private void logInfo(final String message, final Object... args) {
         log.info("[ R2MO ] ( Jooq ) " + message, args);
     }
 
+    private void logDebug(final String message, final Object... args) {
+        log.debug("[ R2MO ] ( Jooq ) " + message, args);
+    }
+
     @SuppressWarnings("all")
     private UpdateConditionStep updateStep(final T entity) {
         Objects.requireNonNull(entity);
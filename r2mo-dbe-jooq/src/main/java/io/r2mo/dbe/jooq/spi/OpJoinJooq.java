@@ -17,14 +17,19 @@ import org.jooq.Field;
 import org.jooq.OrderField;
 import org.jooq.Record;
 import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.Select;
+import org.jooq.SelectSeekStepN;
 import org.jooq.SelectWhereStep;
 import org.jooq.TableOnConditionStep;
+import org.jooq.impl.DSL;
 
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * @author lang : 2025-10-24
@@ -93,22 +98,81 @@ class OpJoinJooq<T> implements OpJoin<T, Condition> {
 
         final List<OrderField<?>> orderBy =
             JooqHelper.forOrderBy(query.sorter(), this::findColumn, null);
-        started.orderBy(orderBy);
 
         final QPager inPager = query.pager();
+        if (Objects.nonNull(inPager) && inPager.isSeek()) {
+            return this.findPageSeek(started, orderBy, condition, query, inPager);
+        }
+        final Supplier<Long> counted = this.count(condition, inPager);
+        started.orderBy(orderBy);
+
         Optional.ofNullable(inPager).ifPresent(pager ->
             started.offset(pager.getStart()).limit(pager.getSize()));
 
 
         final Result<Record> result = started.fetch();
-        final Optional<Long> count = this.count(condition);
 
         final JObject page = SPI.J();
         page.put("list", JoinResult.of(this.ref).toResponse(result));
-        page.put("count", count.get());
+        page.put("count", counted.get());
         return page;
     }
 
+    /*
+     * 游标分页：关联查询无法确定唯一键，调用方需要保证排序字段组合唯一（例如最后追加主表主键），
+     * 否则排序键相同的行可能在翻页时被跳过
+     */
+    @SuppressWarnings("all")
+    private JObject findPageSeek(final SelectWhereStep<Record> started, final List<OrderField<?>> orderBy,
+                                 final Condition condition, final QQuery query, final QPager pager) {
+        if (orderBy.isEmpty()) {
+            throw new IllegalArgumentException("[ R2MO ] 游标分页缺少排序字段！");
+        }
+        final List<Object> after = pager.seekValues();
+        if (!after.isEmpty() && after.size() != orderBy.size()) {
+            throw new IllegalArgumentException("[ R2MO ] 游标与排序字段不匹配：" + after.size() + " / " + orderBy.size());
+        }
+        final Supplier<Long> counted = this.count(condition, pager);
+        final SelectSeekStepN<Record> ordered = started.orderBy(orderBy);
+        // seek 返回的 SelectSeekLimitStep 与 SelectLimitStep 没有继承关系，两个分支各自 limit
+        final ResultQuery<Record> limited = after.isEmpty()
+            ? ordered.limit(pager.getSize() + 1)
+            : ordered.seek(after.toArray()).limit(pager.getSize() + 1);
+        final Result<Record> fetched = limited.fetch();
+        final boolean more = pager.getSize() < fetched.size();
+        final Result<Record> result = this.context.newResult(fetched.fields());
+        result.addAll(more ? fetched.subList(0, pager.getSize()) : fetched);
+
+        final JObject page = SPI.J();
+        page.put("list", JoinResult.of(this.ref).toResponse(result));
+        page.put("count", counted.get());
+        if (more) {
+            final Record last = result.get(result.size() - 1);
+            final List<Object> values = new ArrayList<>();
+            query.sorter().items().forEach(kv -> values.add(this.seekValue(last, this.findColumn(kv.key()))));
+            page.put("next", QPager.seekToken(values));
+        }
+        return page;
+    }
+
+    private Object seekValue(final Record record, final Field<?> column) {
+        Field<?> found = record.field(column);
+        if (Objects.isNull(found)) {
+            // 排序列为 table.column 形式的字段，按限定名查找
+            found = record.field(DSL.name(column.getName().split("\\.")));
+        }
+        if (Objects.isNull(found)) {
+            throw new IllegalArgumentException("[ R2MO ] 游标分页无法读取排序列：" + column.getName());
+        }
+        return record.get(found);
+    }
+
+    private Supplier<Long> count(final Condition condition, final QPager pager) {
+        final TableOnConditionStep<Record> joinOn = JoinQr.buildJoin(this.ref);
+        final Select<?> countQr = this.context.selectFrom(joinOn).where(condition);
+        return JooqCount.begin(this.context, countQr, pager, () -> this.count(condition).orElse(0L));
+    }
+
     private Field<?> findColumn(final String field) {
         return JooqHelper.findColumn(field, this.ref);
     }
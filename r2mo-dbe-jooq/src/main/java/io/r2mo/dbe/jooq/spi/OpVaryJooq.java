@@ -1,19 +1,27 @@
 package io.r2mo.dbe.jooq.spi;
 
+import io.r2mo.SourceReflect;
 import io.r2mo.base.dbe.operation.OpVary;
 import io.r2mo.base.dbe.syntax.QQuery;
 import io.r2mo.typed.common.Pagination;
+import io.r2mo.typed.exception.web._501NotSupportException;
 import lombok.extern.slf4j.Slf4j;
 import org.jooq.Condition;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
 import org.jooq.ResultQuery;
 import org.jooq.SelectWhereStep;
+import org.jooq.impl.DSL;
 
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 /**
  * @author lang : 2025-10-19
@@ -67,6 +75,69 @@ class OpVaryJooq<T> extends AbstractDbJooq<T> implements OpVary<T, Condition> {
     }
 
 
+    /*
+     * fetchSize 生效所需的连接设置（PostgreSQL 关闭 autocommit、MySQL 开启 useCursorFetch）见 JooqCursor
+     */
+    @Override
+    public Stream<T> findStream(final Condition condition, final int fetchSize) {
+        final Condition where = Objects.isNull(condition) ? DSL.noCondition() : condition;
+        final JooqCursor session = JooqCursor.open(this.executor());
+        try {
+            final ResultQuery<?> query = session.context().selectFrom(this.meta.table())
+                .where(where)
+                .fetchSize(fetchSize);
+            this.logInfo(" <-- {} 游标读取，条件：{}，fetchSize / {}", this.meta.tableName(), where, fetchSize);
+            // fetchStreamInto 内部持有 Cursor，Stream 关闭时先释放结果集，再归还游标连接
+            return query.fetchStreamInto(this.entityCls()).onClose(session::close);
+        } catch (final RuntimeException ex) {
+            session.close();
+            throw ex;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K> void findGroupBy(final Condition condition, final String groupBy, final int fetchSize,
+                                final BiConsumer<K, List<T>> consumer) {
+        final Field<?> column = this.meta.findColumn(groupBy);
+        if (Objects.isNull(column)) {
+            throw new _501NotSupportException("[ R2MO ] 分组字段无法映射到数据库列：" + groupBy);
+        }
+        final Condition where = Objects.isNull(condition) ? DSL.noCondition() : condition;
+        // 排序后同一分组的数据连续出现，键变化即可输出上一分组
+        final Class<T> entityCls = this.entityCls();
+        int groups = 0;
+        long rows = 0;
+        try (final JooqCursor session = JooqCursor.open(this.executor());
+             final Cursor<? extends Record> cursor = session.context().selectFrom(this.meta.table())
+                 .where(where)
+                 .orderBy(column)
+                 .fetchSize(fetchSize)
+                 .fetchLazy()) {
+            K current = null;
+            List<T> bucket = null;
+            while (cursor.hasNext()) {
+                final T entity = cursor.fetchNext().into(entityCls);
+                final K key = (K) SourceReflect.value(entity, groupBy, entityCls);
+                if (Objects.isNull(bucket) || !Objects.equals(current, key)) {
+                    if (Objects.nonNull(bucket)) {
+                        consumer.accept(current, bucket);
+                        groups++;
+                    }
+                    current = key;
+                    bucket = new ArrayList<>();
+                }
+                bucket.add(entity);
+                rows++;
+            }
+            if (Objects.nonNull(bucket)) {
+                consumer.accept(current, bucket);
+                groups++;
+            }
+        }
+        this.logInfo(" <-- {} 流式分组：{}，分组数量 / {}，读取数据 / {}", this.meta.tableName(), groupBy, groups, rows);
+    }
+
     private void logInfo(final String message, final Object... args) {
         log.info("[ R2MO ] ( Jooq ) " + message, args);
     }
@@ -3,24 +3,48 @@ package io.r2mo.dbe.mybatisplus.spi;
 import cn.hutool.core.bean.BeanUtil;
 import cn.hutool.core.bean.copier.CopyOptions;
 import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.enums.SqlMethod;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.core.toolkit.Constants;
+import com.baomidou.mybatisplus.core.toolkit.StringPool;
 import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.baomidou.mybatisplus.extension.toolkit.SqlHelper;
+import io.r2mo.SourceReflect;
+import io.r2mo.base.dbe.common.DBNode;
 import io.r2mo.base.dbe.operation.OpVary;
 import io.r2mo.base.dbe.syntax.QQuery;
 import io.r2mo.dbe.common.operation.AbstractDbOperation;
+import io.r2mo.spi.SPI;
 import io.r2mo.typed.common.Pagination;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * @author lang : 2025-08-28
  */
 class OpVaryImpl<T, M extends BaseMapper<T>> extends AbstractDbOperation<QueryWrapper<T>, T, M> implements OpVary<T, QueryWrapper<T>> {
+    private static final String POSTGRESQL = "PostgreSQL";
+
     OpVaryImpl(final Class<T> entityCls, final M m) {
         super(entityCls, m);
     }
@@ -66,6 +90,101 @@ class OpVaryImpl<T, M extends BaseMapper<T>> extends AbstractDbOperation<QueryWr
         return this.executor().selectList(condition);
     }
 
+    /*
+     * BaseMapper 没有返回 Cursor 的方法，此处直接使用 selectList 对应的 MappedStatement 打开 MyBatis Cursor，
+     * SqlSession 与 Cursor 的生命周期绑定到 Stream，关闭 Stream 时一并释放；
+     * MappedStatement 的 fetchSize 是固定的，按 fetchSize 派生一份语句（见 statement），
+     * PostgreSQL 在 autocommit 连接上会忽略 fetchSize，读取期间关闭 autocommit，结束后恢复；
+     * MySQL 需要连接属性 useCursorFetch=true（HikariBuilderMySQL 默认下发）
+     */
+    @Override
+    public Stream<T> findStream(final QueryWrapper<T> condition, final int fetchSize) {
+        final QueryWrapper<T> query = Objects.isNull(condition) ? Wrappers.query(this.entityCls()) : condition;
+        final SqlSession session = SqlHelper.sqlSessionFactory(this.entityCls()).openSession();
+        try {
+            final Connection connection = session.getConnection();
+            final boolean restore = POSTGRESQL.equals(connection.getMetaData().getDatabaseProductName())
+                && connection.getAutoCommit();
+            if (restore) {
+                connection.setAutoCommit(false);
+            }
+            final Cursor<T> cursor = session.selectCursor(this.statement(session, fetchSize), Map.of(Constants.WRAPPER, query));
+            return StreamSupport.stream(cursor.spliterator(), false).onClose(() -> {
+                try {
+                    cursor.close();
+                    if (restore) {
+                        // 重新开启 autocommit 会提交当前只读事务
+                        connection.setAutoCommit(true);
+                    }
+                } catch (final IOException ex) {
+                    throw new UncheckedIOException(ex);
+                } catch (final SQLException ex) {
+                    throw new PersistenceException(ex);
+                } finally {
+                    session.close();
+                }
+            });
+        } catch (final SQLException ex) {
+            session.close();
+            throw new PersistenceException(ex);
+        } catch (final RuntimeException ex) {
+            session.close();
+            throw ex;
+        }
+    }
+
+    /*
+     * 复用 findStream 的游标逐行读取，不会把结果集构造成完整的 List
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K> void findGroupBy(final QueryWrapper<T> condition, final String groupBy, final int fetchSize,
+                                final BiConsumer<K, List<T>> consumer) {
+        final DBNode node = SPI.SPI_DB.loader().configure(this.entityCls());
+        final QueryWrapper<T> query = Objects.isNull(condition) ? Wrappers.query(this.entityCls()) : condition;
+        query.orderByAsc(node.vColumn(groupBy));
+        final Class<T> entityCls = this.entityCls();
+        final GroupBucket<K> bucket = new GroupBucket<>();
+        try (final Stream<T> stream = this.findStream(query, fetchSize)) {
+            stream.forEach(entity -> {
+                final K key = (K) SourceReflect.value(entity, groupBy, entityCls);
+                bucket.add(key, entity, consumer);
+            });
+        }
+        bucket.flush(consumer);
+    }
+
+    /*
+     * selectList 语句的 fetchSize 派生版本，按 fetchSize 注册一次后复用
+     */
+    private String statement(final SqlSession session, final int fetchSize) {
+        final TableInfo table = TableInfoHelper.getTableInfo(this.entityCls());
+        final String statement = table.getCurrentNamespace() + StringPool.DOT + SqlMethod.SELECT_LIST.getMethod();
+        if (fetchSize <= 0) {
+            return statement;
+        }
+        final String derived = statement + "_fetch" + fetchSize;
+        final Configuration configuration = session.getConfiguration();
+        synchronized (configuration) {
+            if (!configuration.hasStatement(derived, false)) {
+                final MappedStatement source = configuration.getMappedStatement(statement);
+                configuration.addMappedStatement(new MappedStatement.Builder(
+                    configuration, derived, source.getSqlSource(), source.getSqlCommandType())
+                    .resource(source.getResource())
+                    .databaseId(source.getDatabaseId())
+                    .lang(source.getLang())
+                    .statementType(source.getStatementType())
+                    .resultSetType(source.getResultSetType())
+                    .parameterMap(source.getParameterMap())
+                    .resultMaps(source.getResultMaps())
+                    .timeout(source.getTimeout())
+                    .fetchSize(fetchSize)
+                    .build());
+            }
+        }
+        return derived;
+    }
+
     @Override
     public Optional<T> findOne(final QueryWrapper<T> condition) {
         if (Objects.isNull(condition)) {
@@ -106,4 +225,28 @@ class OpVaryImpl<T, M extends BaseMapper<T>> extends AbstractDbOperation<QueryWr
         }
         return null;
     }
+
+    /*
+     * 排序后同一分组的数据连续出现，键变化时输出上一分组
+     */
+    private class GroupBucket<K> {
+        private K current;
+        private List<T> entities;
+
+        void add(final K key, final T entity, final BiConsumer<K, List<T>> consumer) {
+            if (Objects.isNull(this.entities) || !Objects.equals(this.current, key)) {
+                this.flush(consumer);
+                this.current = key;
+                this.entities = new ArrayList<>();
+            }
+            this.entities.add(entity);
+        }
+
+        void flush(final BiConsumer<K, List<T>> consumer) {
+            if (Objects.nonNull(this.entities)) {
+                consumer.accept(this.current, this.entities);
+                this.entities = null;
+            }
+        }
+    }
 }
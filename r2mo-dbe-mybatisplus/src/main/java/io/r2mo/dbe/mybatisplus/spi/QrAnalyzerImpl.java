@@ -105,7 +105,8 @@ class QrAnalyzerImpl<T> implements QrAnalyzer<QueryWrapper<T>> {
         if (Objects.isNull(pager)) {
             return null;
         }
-        return new Page<>(pager.getPage(), pager.getSize());
+        // 游标分页（seek）仅 jOOQ 实现，此处只处理是否统计总数
+        return new Page<>(pager.getPage(), pager.getSize(), pager.isCount());
     }
 
     private void whereTree(final QNode node, final QueryWrapper<T> query) {
@@ -15,6 +15,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * @author lang : 2025-09-04
@@ -117,6 +118,20 @@ public abstract class BaseActOperation<T> implements ActOperation<T> {
         return ActResponse.success(queried);
     }
 
+    @Override
+    public ActResponse<Long> findBatch(final JObject criteria, final int batchSize, final Consumer<List<T>> consumer) {
+        // 游标读取，内存中只保留一个批次
+        final long[] counter = {0L};
+        this.db().forEachBatch(criteria, batchSize, batch -> {
+            counter[0] += batch.size();
+            consumer.accept(batch);
+        });
+        if (0 == counter[0]) {
+            return ActResponse.success(0L, ActState.SUCCESS_204_NO_DATA);
+        }
+        return ActResponse.success(counter[0]);
+    }
+
     @Override
     public ActResponse<T> findOne(final JObject criteria) {
         final Optional<T> queried = this.db().findOne(criteria);
@@ -3,14 +3,20 @@ package io.r2mo.dbe.common;
 import io.r2mo.base.dbe.constant.OpType;
 import io.r2mo.base.dbe.syntax.QQuery;
 import io.r2mo.base.dbe.syntax.QTree;
-import io.r2mo.base.util.R2MO;
 import io.r2mo.typed.common.Pagination;
 import io.r2mo.typed.json.JObject;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * @author lang : 2025-08-28
@@ -99,20 +105,85 @@ public abstract class DBE<QR, T, EXECUTOR> extends DBEAggr<QR, T, EXECUTOR> {
         return this.opVary.findAll();
     }
 
-    public <K> Map<K, List<T>> findGroupBy(final String groupBy) {
-        final List<T> entities = this.findAll();
-        return R2MO.elementGroupBy(groupBy,entities, this.entityCls);
+    // ---- findStream（游标读取，返回的 Stream 必须关闭）
+    public Stream<T> findStream() {
+        return this.opVary.findStream(null, this.pFetchSize());
+    }
+
+    public Stream<T> findStream(final QTree criteria) {
+        if (Objects.isNull(criteria) || !criteria.isOk()) {
+            return Stream.empty();
+        }
+        return this.opVary.findStream(this.qrAnalyzer.where(criteria), this.pFetchSize());
+    }
+
+    public Stream<T> findStream(final Map<String, Object> map) {
+        if (Objects.isNull(map) || map.isEmpty()) {
+            return Stream.empty();
+        }
+        return this.opVary.findStream(this.qrAnalyzer.where(map), this.pFetchSize());
+    }
+
+    public Stream<T> findStream(final JObject criteriaJ) {
+        return this.findStream(QTree.of(criteriaJ));
     }
+
+    // ---- forEachBatch（游标读取，按批次回调，内存中只保留一个批次）
+    public void forEachBatch(final int batchSize, final Consumer<List<T>> consumer) {
+        try (final Stream<T> stream = this.findStream()) {
+            this.forEachBatch(stream, batchSize, consumer);
+        }
+    }
+
+    public void forEachBatch(final QTree criteria, final int batchSize, final Consumer<List<T>> consumer) {
+        try (final Stream<T> stream = this.findStream(criteria)) {
+            this.forEachBatch(stream, batchSize, consumer);
+        }
+    }
+
+    public void forEachBatch(final JObject criteriaJ, final int batchSize, final Consumer<List<T>> consumer) {
+        this.forEachBatch(QTree.of(criteriaJ), batchSize, consumer);
+    }
+
+    private void forEachBatch(final Stream<T> stream, final int batchSize, final Consumer<List<T>> consumer) {
+        final int size = 0 < batchSize ? batchSize : this.pBatchSize();
+        final Iterator<T> it = stream.iterator();
+        List<T> batch = new ArrayList<>(size);
+        while (it.hasNext()) {
+            batch.add(it.next());
+            if (size <= batch.size()) {
+                consumer.accept(batch);
+                batch = new ArrayList<>(size);
+            }
+        }
+        if (!batch.isEmpty()) {
+            consumer.accept(batch);
+        }
+    }
+
     // ---- findGroupBy
+    /*
+     * 分组查询统一走 OpVary 的流式分组：数据库侧按分组字段排序，游标逐行读取，
+     * 不再先拉取完整的实体列表再在内存中二次分组
+     * 数据库排序规则不区分大小写 / 重音时（如 MySQL 默认规则），Java 中不相等的键可能交错出现，
+     * 同一个键会被回调多次，因此返回 Map 的重载合并分组而不是覆盖
+     */
+    public <K> Map<K, List<T>> findGroupBy(final String groupBy) {
+        final Map<K, List<T>> grouped = new LinkedHashMap<>();
+        this.<K>findGroupBy(groupBy, (key, list) -> merge(grouped, key, list));
+        return grouped;
+    }
 
     public <K> Map<K, List<T>> findGroupBy(final String groupBy,final QTree criteria) {
-        final List<T> entities = this.findMany(criteria);
-        return R2MO.elementGroupBy(groupBy,entities, this.entityCls);
+        final Map<K, List<T>> grouped = new LinkedHashMap<>();
+        this.<K>findGroupBy(groupBy, criteria, (key, list) -> merge(grouped, key, list));
+        return grouped;
     }
 
     public <K> Map<K, List<T>> findGroupBy(final String groupBy,final Map<String, Object> map) {
-        final List<T> entities = this.findMany(map);
-        return R2MO.elementGroupBy(groupBy,entities, this.entityCls);
+        final Map<K, List<T>> grouped = new LinkedHashMap<>();
+        this.<K>findGroupBy(groupBy, map, (key, list) -> merge(grouped, key, list));
+        return grouped;
     }
 
     public <K> Map<K, List<T>> findGroupBy(final String groupBy,final JObject criteriaJ) {
@@ -120,8 +191,35 @@ public abstract class DBE<QR, T, EXECUTOR> extends DBEAggr<QR, T, EXECUTOR> {
     }
 
     public <K> Map<K, List<T>> findGroupBy(final String groupBy,final String field, final Object value) {
-        final List<T> entities = this.findMany(field, value);
-        return R2MO.elementGroupBy(groupBy,entities, this.entityCls);
+        final Map<K, List<T>> grouped = new LinkedHashMap<>();
+        if (Objects.isNull(field) || field.isEmpty()) {
+            return grouped;
+        }
+        this.opVary.<K>findGroupBy(this.qrAnalyzer.where(field, value), groupBy, this.pFetchSize(), (key, list) -> merge(grouped, key, list));
+        return grouped;
+    }
+
+    private static <K, E> void merge(final Map<K, List<E>> grouped, final K key, final List<E> list) {
+        grouped.computeIfAbsent(key, k -> new ArrayList<>()).addAll(list);
+    }
+
+    // ---- findGroupBy（流式回调，适用于大表；排序规则与 Java 的相等判断不一致时同一个键可能回调多次）
+    public <K> void findGroupBy(final String groupBy, final BiConsumer<K, List<T>> consumer) {
+        this.opVary.findGroupBy(null, groupBy, this.pFetchSize(), consumer);
+    }
+
+    public <K> void findGroupBy(final String groupBy, final QTree criteria, final BiConsumer<K, List<T>> consumer) {
+        if (Objects.isNull(criteria) || !criteria.isOk()) {
+            return;
+        }
+        this.opVary.findGroupBy(this.qrAnalyzer.where(criteria), groupBy, this.pFetchSize(), consumer);
+    }
+
+    public <K> void findGroupBy(final String groupBy, final Map<String, Object> map, final BiConsumer<K, List<T>> consumer) {
+        if (Objects.isNull(map) || map.isEmpty()) {
+            return;
+        }
+        this.opVary.findGroupBy(this.qrAnalyzer.where(map), groupBy, this.pFetchSize(), consumer);
     }
 
     // ---- findMap
@@ -132,8 +230,15 @@ public abstract class DBE<QR, T, EXECUTOR> extends DBEAggr<QR, T, EXECUTOR> {
 
     // ---- findManyIn
     public List<T> findManyIn(final String field, final Object... values) {
-        final QR condition = this.qrAnalyzer.whereIn(field, values);
-        return this.opVary.findMany(condition);
+        final int size = Math.max(1, this.pInSize());
+        if (values.length <= size) {
+            final QR condition = this.qrAnalyzer.whereIn(field, values);
+            return this.opVary.findMany(condition);
+        }
+        // 超长 IN 条件：去重后切片查询，避免超出驱动参数上限
+        final List<Object> distinct = DBESlice.distinct(values);
+        return DBESlice.execute(distinct, size, this.pInParallel(),
+            slice -> this.opVary.findMany(this.qrAnalyzer.whereIn(field, slice.toArray())));
     }
 
     public List<T> findManyIn(final String field, final List<?> values) {
@@ -170,6 +275,9 @@ public abstract class DBE<QR, T, EXECUTOR> extends DBEAggr<QR, T, EXECUTOR> {
     }
 
     public List<T> save(final List<T> entities, final int batchSize) {
+        if (this.pUpsert()) {
+            return this.opDb.upsert(entities, batchSize);
+        }
         return this.opDb.execute(entities, OpType.SAVE, batchSize);
     }
 
@@ -6,6 +6,14 @@ package io.r2mo.dbe.common;
 class DBEConfiguration {
 
     private int pBatchSize = 1024;
+    // 游标读取（流式分组等）每次拉取的行数；MySQL 需开启 useCursorFetch，PostgreSQL 需在非 autocommit 连接上读取
+    private int pFetchSize = 1024;
+    // 批量保存使用数据库原生 UPSERT，跳过“先查询再比对”的流程
+    private boolean pUpsert = false;
+    // findManyIn 单次 IN 条件的最大值数量，超过时切片查询
+    private int pInSize = 1000;
+    // findManyIn 切片并行度，默认 1 顺序执行，保证切片与调用方处于同一事务
+    private int pInParallel = 1;
 
     public int pBatchSize() {
         return this.pBatchSize;
@@ -14,4 +22,36 @@ class DBEConfiguration {
     public void pBatchSize(final int pBatchSize) {
         this.pBatchSize = pBatchSize;
     }
+
+    public int pFetchSize() {
+        return this.pFetchSize;
+    }
+
+    public void pFetchSize(final int pFetchSize) {
+        this.pFetchSize = pFetchSize;
+    }
+
+    public boolean pUpsert() {
+        return this.pUpsert;
+    }
+
+    public void pUpsert(final boolean pUpsert) {
+        this.pUpsert = pUpsert;
+    }
+
+    public int pInSize() {
+        return this.pInSize;
+    }
+
+    public void pInSize(final int pInSize) {
+        this.pInSize = pInSize;
+    }
+
+    public int pInParallel() {
+        return this.pInParallel;
+    }
+
+    public void pInParallel(final int pInParallel) {
+        this.pInParallel = pInParallel;
+    }
 }
@@ -0,0 +1,97 @@
+package io.r2mo.dbe.common;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 超长 IN 条件切片查询
+ * <pre>
+ *     1. 输入值先去重，切片之间的值互不重叠，各切片结果合并后不会出现重复记录
+ *     2. 每个切片最多 sliceSize 个值，避免超出驱动的参数上限（如 PostgreSQL 的 32767、SQL Server 的 2100）
+ *     3. parallel > 1 时切片提交到共享线程池并行执行，同时在途的切片不超过 parallel 个，结果按切片顺序合并；
+ *        并行切片在各自线程中获取连接，不参与调用线程上的事务，事务内请保持 parallel = 1
+ * </pre>
+ *
+ * @author lang : 2026-10-18
+ */
+@Slf4j
+class DBESlice {
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new Factory());
+
+    private DBESlice() {
+    }
+
+    static List<Object> distinct(final Object... values) {
+        return new ArrayList<>(new LinkedHashSet<>(Arrays.asList(values)));
+    }
+
+    static <V, T> List<T> execute(final List<V> values, final int sliceSize, final int parallel,
+                                  final Function<List<V>, List<T>> executor) {
+        final int size = values.size();
+        final List<List<V>> slices = new ArrayList<>((size + sliceSize - 1) / sliceSize);
+        for (int start = 0; start < size; start += sliceSize) {
+            slices.add(values.subList(start, Math.min(size, start + sliceSize)));
+        }
+        log.debug("[ R2MO ] IN 条件切片查询，数量：{}，切片：{}，并行：{}", size, slices.size(), parallel);
+        final List<T> result = new ArrayList<>();
+        if (parallel <= 1 || 1 == slices.size()) {
+            slices.forEach(slice -> result.addAll(executor.apply(slice)));
+            return result;
+        }
+        // 滑动窗口：最多 parallel 个切片在途，按顺序等待最早提交的切片
+        final List<Future<List<T>>> window = new ArrayList<>(parallel);
+        int next = 0;
+        try {
+            while (next < slices.size() || !window.isEmpty()) {
+                while (next < slices.size() && window.size() < parallel) {
+                    final List<V> slice = slices.get(next++);
+                    window.add(EXECUTOR.submit(() -> executor.apply(slice)));
+                }
+                final List<T> sliced = await(window.remove(0));
+                if (Objects.nonNull(sliced)) {
+                    result.addAll(sliced);
+                }
+            }
+        } finally {
+            window.forEach(future -> future.cancel(true));
+        }
+        return result;
+    }
+
+    private static <T> T await(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("[ R2MO ] IN 条件切片查询被中断", ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof final RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("[ R2MO ] IN 条件切片查询失败", ex.getCause());
+        }
+    }
+
+    private static class Factory implements ThreadFactory {
+        private final AtomicInteger index = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "r2mo-in-" + this.index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -31,6 +31,8 @@ public class HikariBuilderMySQL implements HikariBuilder {
         this.add(config, dsp, HikariOpts.DSP_USE_LOCAL_SESSION_STATE, "true");
         this.add(config, dsp, HikariOpts.DSP_USE_LOCAL_TX_STATE, "true");
         this.add(config, dsp, HikariOpts.DSP_USE_COMPRESSION, "true");
+        // 游标读取：未开启时 Connector/J 忽略正数 fetchSize，一次性读入全部结果
+        this.add(config, dsp, HikariOpts.DSP_USE_CURSOR_FETCH, "true");
 
         // Advanced Configuration
         this.add(config, dsp, HikariOpts.DSP_REWRITE_BATCHED_STMTS, "true");
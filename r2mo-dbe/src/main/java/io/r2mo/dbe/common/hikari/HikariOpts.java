@@ -32,6 +32,7 @@ final class HikariOpts {
     static final String DSP_PREP_STMT_CACHE_SIZE = "prepStmtCacheSize";
     static final String DSP_PREP_STMT_CACHE_SQL_LIMIT = "prepStmtCacheSqlLimit";
     static final String DSP_USE_SERVER_PREP_STMTS = "useServerPrepStmts";
+    static final String DSP_USE_CURSOR_FETCH = "useCursorFetch";
     static final String DSP_REWRITE_BATCHED_STMTS = "rewriteBatchedStatements";
     static final String DSP_CACHE_RS_METADATA = "cacheResultSetMetadata";
     static final String DSP_CACHE_SERVER_CONFIG = "cacheServerConfiguration";
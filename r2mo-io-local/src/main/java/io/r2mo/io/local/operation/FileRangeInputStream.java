@@ -2,16 +2,34 @@ package io.r2mo.io.local.operation;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.RandomAccessFile;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
-
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * 文件区间输入流，基于 {@link FileChannel} 的定位读取（positional read）实现
+ * <pre>
+ *     1. read(byte[], int, int) 直接按当前位置批量读取到调用方数组，一次系统调用读取一整段
+ *     2. read() 单字节读取走内部缓冲区，避免每个字节一次系统调用
+ *     3. skip / available 只做位置计算，不触发读取
+ *     4. transferTo 使用 {@link FileChannel#transferTo(long, long, WritableByteChannel)} 直接输出
+ * </pre>
+ */
 public class FileRangeInputStream extends InputStream {
 
-    private final RandomAccessFile raf;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final FileChannel channel;
     private final long startPos;
     private final long endPos;
+    // 下一个返回给调用方的字节位置，缓冲区中的剩余数据始终从该位置开始
     private long currentPos;
-    private long bytesRemaining;
+    private ByteBuffer buffer;
 
     /**
      * 私有构造函数
@@ -23,17 +41,18 @@ public class FileRangeInputStream extends InputStream {
      * @throws IOException 如果文件操作失败
      */
     private FileRangeInputStream(final Path filePath, final long start, final long end) throws IOException {
-        this.raf = new RandomAccessFile(filePath.toFile(), "r");
+        this.channel = FileChannel.open(filePath, StandardOpenOption.READ);
         this.startPos = start;
         this.endPos = end;
         this.currentPos = start;
-        this.bytesRemaining = end - start;
 
-        // 验证参数有效性
-        this.validateParameters();
-
-        // 定位到起始位置
-        this.raf.seek(this.startPos);
+        // 验证参数有效性，失败时释放已打开的通道
+        try {
+            this.validateParameters();
+        } catch (final IOException | RuntimeException ex) {
+            this.channel.close();
+            throw ex;
+        }
     }
 
     /**
@@ -56,7 +75,7 @@ public class FileRangeInputStream extends InputStream {
      * @throws IOException 如果参数无效
      */
     private void validateParameters() throws IOException {
-        final long fileLength = this.raf.length();
+        final long fileLength = this.channel.size();
 
         if (this.startPos < 0) {
             throw new IllegalArgumentException("起始位置不能为负数: " + this.startPos);
@@ -74,23 +93,117 @@ public class FileRangeInputStream extends InputStream {
             throw new IllegalArgumentException("结束位置超过文件长度: " + this.endPos + " > " + fileLength);
         }
 
-        if (this.bytesRemaining <= 0) {
-            throw new IllegalArgumentException("读取长度必须大于0: " + this.bytesRemaining);
+        if (this.remaining() <= 0) {
+            throw new IllegalArgumentException("读取长度必须大于0: " + this.remaining());
         }
     }
 
+    private long remaining() {
+        return this.endPos - this.currentPos;
+    }
+
+    private boolean buffered() {
+        return Objects.nonNull(this.buffer) && this.buffer.hasRemaining();
+    }
+
     @Override
     public int read() throws IOException {
-        if (this.bytesRemaining <= 0) {
+        if (this.remaining() <= 0) {
+            return -1;
+        }
+        if (!this.buffered()) {
+            if (Objects.isNull(this.buffer)) {
+                this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            }
+            this.buffer.clear();
+            this.buffer.limit((int) Math.min(BUFFER_SIZE, this.remaining()));
+            final int read = this.channel.read(this.buffer, this.currentPos);
+            this.buffer.flip();
+            if (read <= 0) {
+                return -1;
+            }
+        }
+        this.currentPos++;
+        return this.buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (this.remaining() <= 0) {
             return -1;
         }
+        int total = 0;
+        int offset = off;
+        int length = len;
+        // 1. 先消费单字节读取遗留在缓冲区中的数据
+        if (this.buffered()) {
+            final int size = Math.min(length, this.buffer.remaining());
+            this.buffer.get(b, offset, size);
+            this.currentPos += size;
+            total += size;
+            offset += size;
+            length -= size;
+        }
+        // 2. 剩余部分直接定位读取到调用方数组
+        if (length > 0 && this.remaining() > 0) {
+            final int size = (int) Math.min(length, this.remaining());
+            final int read = this.channel.read(ByteBuffer.wrap(b, offset, size), this.currentPos);
+            if (read > 0) {
+                this.currentPos += read;
+                total += read;
+            }
+        }
+        return total == 0 ? -1 : total;
+    }
 
-        final int result = this.raf.read();
-        if (result != -1) {
-            this.currentPos++;
-            this.bytesRemaining--;
+    @Override
+    public long skip(final long n) {
+        if (n <= 0) {
+            return 0;
         }
-        return result;
+        final long skipped = Math.min(n, this.remaining());
+        this.currentPos += skipped;
+        // 位置变化后缓冲区内容失效
+        if (Objects.nonNull(this.buffer)) {
+            this.buffer.clear().limit(0);
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(0, this.remaining()));
     }
 
-}
\ No newline at end of file
+    @Override
+    public long transferTo(final OutputStream out) throws IOException {
+        Objects.requireNonNull(out, "out");
+        long transferred = 0;
+        if (this.buffered()) {
+            final int size = this.buffer.remaining();
+            out.write(this.buffer.array(), this.buffer.arrayOffset() + this.buffer.position(), size);
+            this.buffer.position(this.buffer.limit());
+            this.currentPos += size;
+            transferred += size;
+        }
+        final WritableByteChannel target = Channels.newChannel(out);
+        while (this.remaining() > 0) {
+            final long written = this.channel.transferTo(this.currentPos, this.remaining(), target);
+            if (written <= 0) {
+                break;
+            }
+            this.currentPos += written;
+            transferred += written;
+        }
+        return transferred;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+}
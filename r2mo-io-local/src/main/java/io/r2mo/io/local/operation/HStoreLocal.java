@@ -3,6 +3,7 @@ package io.r2mo.io.local.operation;
 import io.r2mo.base.io.HProgressor;
 import io.r2mo.base.io.HStore;
 import io.r2mo.base.io.common.FileMem;
+import io.r2mo.base.io.common.FileZip;
 import io.r2mo.base.io.modeling.FileRange;
 import io.r2mo.typed.annotation.SPID;
 import io.r2mo.typed.common.Binary;
@@ -11,6 +12,7 @@ import lombok.extern.slf4j.Slf4j;
 import javax.crypto.SecretKey;
 import java.io.File;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
 import java.nio.file.Path;
 import java.security.PrivateKey;
@@ -69,6 +71,12 @@ public class HStoreLocal extends HStoreLocalMeta {
         return LocalZip.inBinary(files, memSet, progress);
     }
 
+    @Override
+    public long inBinaryTo(final Set<String> files, final Set<FileMem> memSet,
+                           final OutputStream out, final FileZip zip, final HProgressor progress) {
+        return LocalZip.inBinaryTo(files, memSet, out, zip, progress);
+    }
+
     @Override
     public Binary inBinary(final String filename, final FileRange fileRange, final HProgressor progressorRef) {
         return LocalRafReader.inBinary(filename, fileRange, progressorRef);
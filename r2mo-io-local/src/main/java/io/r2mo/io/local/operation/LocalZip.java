@@ -2,21 +2,34 @@ package io.r2mo.io.local.operation;
 
 import io.r2mo.base.io.HProgressor;
 import io.r2mo.base.io.common.FileMem;
+import io.r2mo.base.io.common.FileZip;
 import io.r2mo.typed.common.Binary;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 /**
  * 打包多个文件为 ZIP 压缩流
+ * <pre>
+ *     1. {@link #inBinary(Set, Set, HProgressor)}：旧接口，压缩包完整构造在内存中后返回 {@link Binary}
+ *     2. {@link #inBinaryTo(Set, Set, OutputStream, FileZip, HProgressor)}：流式接口，直接写出到调用方的输出流，
+ *        内存占用只与缓冲区有关，与压缩包大小无关
+ *     3. {@link FileZip#isParallel()} 为 true 时交给 {@link LocalZipParallel} 多线程压缩
+ * </pre>
  *
  * @author lang
  * @since 2025-09-20
@@ -27,103 +40,227 @@ class LocalZip {
     static Binary inBinary(final Set<String> files,
                            final Set<FileMem> memSet,
                            final HProgressor progressRef) {
-        if ((files == null || files.isEmpty()) && (memSet == null || memSet.isEmpty())) {
-            throw new IllegalArgumentException("[ R2MO ] 输入文件集合为空！");
+        ensureInput(files, memSet);
+
+        try (final ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+
+            // 旧接口保持全部 DEFLATED 的压缩方式，不套用 FileZip 默认的 STORED 扩展名
+            write(files, memSet, baos, FileZip.of().stored(Set.of()), progressRef);
+
+            final byte[] zipBytes = baos.toByteArray();
+            final int length = zipBytes.length;
+            log.info("[ R2MO ] 压缩完成，共 {} 字节", length);
+
+            onComplete(progressRef, length);
+
+            return new Binary(new ByteArrayInputStream(zipBytes)).length(length);
+
+        } catch (final Exception e) {
+            log.error("[ R2MO ] 压缩文件时发生错误", e);
+            onError(progressRef, e);
+            return null;
         }
+    }
 
-        try (final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-             final ZipOutputStream zos = new ZipOutputStream(baos)) {
+    static long inBinaryTo(final Set<String> files,
+                           final Set<FileMem> memSet,
+                           final OutputStream out,
+                           final FileZip zip,
+                           final HProgressor progressRef) {
+        ensureInput(files, memSet);
+        Objects.requireNonNull(out, "[ R2MO ] 输出流不可为空！");
 
-            final byte[] buffer = new byte[8192];
-            long totalBytes = 0;
+        try {
+            final Counter counter = new Counter(out);
+            write(files, memSet, counter, Objects.isNull(zip) ? FileZip.of() : zip, progressRef);
+            counter.flush();
 
-            // 处理本地文件
-            if (files != null) {
-                for (final String filePath : files) {
-                    final Path path = Paths.get(filePath);
-                    if (!Files.exists(path)) {
-                        log.warn("[ R2MO ] 文件不存在: {}", filePath);
-                        continue;
-                    }
+            final long length = counter.count;
+            log.info("[ R2MO ] 流式压缩完成，共 {} 字节", length);
 
-                    log.info("[ R2MO ] 正在压缩本地文件: {}", filePath);
-                    try (final InputStream in = Files.newInputStream(path)) {
-                        final ZipEntry entry = new ZipEntry(path.getFileName().toString());
-                        zos.putNextEntry(entry);
-
-                        int len;
-                        while ((len = in.read(buffer)) != -1) {
-                            zos.write(buffer, 0, len);
-                            totalBytes += len;
-
-                            if (progressRef != null) {
-                                try {
-                                    progressRef.onProgress(totalBytes);
-                                } catch (final Exception e) {
-                                    log.debug("[ R2MO ] 进度回调失败", e);
-                                }
-                            }
-                        }
-                        zos.closeEntry();
-                    }
-                }
+            onComplete(progressRef, length);
+            return length;
+        } catch (final Exception e) {
+            log.error("[ R2MO ] 压缩文件时发生错误", e);
+            onError(progressRef, e);
+            return -1;
+        }
+    }
+
+    /*
+     * 压缩核心流程，ZipOutputStream 写在不向下传递 close 的 Counter 上，关闭时释放内部 Deflater，
+     * 调用方的输出流保持打开，生命周期由调用方负责
+     */
+    private static void write(final Set<String> files,
+                              final Set<FileMem> memSet,
+                              final OutputStream out,
+                              final FileZip zip,
+                              final HProgressor progressRef) throws IOException {
+        if (zip.isParallel()) {
+            final List<Object> sources = LocalZipParallel.sources(files, memSet);
+            if (LocalZipParallel.supported(sources)) {
+                LocalZipParallel.write(sources, out, zip, progressRef);
+                return;
             }
+            log.info("[ R2MO ] 压缩内容超过 ZIP 标准格式上限，退回顺序压缩");
+        }
+        try (final ZipOutputStream zos = new ZipOutputStream(new Counter(out))) {
+            entries(files, memSet, zos, zip, progressRef);
+        }
+    }
 
-            // 处理内存文件
-            if (memSet != null) {
-                for (final FileMem fileMem : memSet) {
-                    final String name = fileMem.name();
-                    final byte[] content = fileMem.content();
+    private static void entries(final Set<String> files,
+                                final Set<FileMem> memSet,
+                                final ZipOutputStream zos,
+                                final FileZip zip,
+                                final HProgressor progressRef) throws IOException {
+        zos.setLevel(zip.level());
 
-                    if (name == null || content == null) {
-                        log.warn("[ R2MO ] 内存文件无效: name={}, content={}", name, content != null);
-                        continue;
-                    }
+        final byte[] buffer = new byte[8192];
+        long totalBytes = 0;
 
-                    log.info("[ R2MO ] 正在压缩内存文件: {}", name);
-                    final ZipEntry entry = new ZipEntry(name);
-                    zos.putNextEntry(entry);
-                    zos.write(content);
-                    totalBytes += content.length;
-
-                    if (progressRef != null) {
-                        try {
-                            progressRef.onProgress(totalBytes);
-                        } catch (final Exception e) {
-                            log.debug("[ R2MO ] 进度回调失败", e);
-                        }
+        // 处理本地文件
+        if (files != null) {
+            for (final String filePath : files) {
+                final Path path = Paths.get(filePath);
+                if (!Files.exists(path)) {
+                    log.warn("[ R2MO ] 文件不存在: {}", filePath);
+                    continue;
+                }
+
+                log.info("[ R2MO ] 正在压缩本地文件: {}", filePath);
+                final String name = path.getFileName().toString();
+                final ZipEntry entry = new ZipEntry(name);
+                if (zip.isStored(name)) {
+                    stored(entry, path, buffer);
+                }
+                zos.putNextEntry(entry);
+                try (final InputStream in = Files.newInputStream(path)) {
+                    int len;
+                    while ((len = in.read(buffer)) != -1) {
+                        zos.write(buffer, 0, len);
+                        totalBytes += len;
+                        onProgress(progressRef, totalBytes);
                     }
-                    zos.closeEntry();
                 }
+                zos.closeEntry();
             }
+        }
 
-            zos.finish();
-            zos.flush();
+        // 处理内存文件
+        if (memSet != null) {
+            for (final FileMem fileMem : memSet) {
+                final String name = fileMem.name();
+                final byte[] content = fileMem.content();
 
-            final byte[] zipBytes = baos.toByteArray();
-            final int length = zipBytes.length;
-            log.info("[ R2MO ] 压缩完成，共 {} 字节", length);
+                if (name == null || content == null) {
+                    log.warn("[ R2MO ] 内存文件无效: name={}, content={}", name, content != null);
+                    continue;
+                }
 
-            if (progressRef != null) {
-                try {
-                    progressRef.onComplete(length);
-                } catch (final Exception e) {
-                    log.debug("[ R2MO ] 完成回调失败", e);
+                log.info("[ R2MO ] 正在压缩内存文件: {}", name);
+                final ZipEntry entry = new ZipEntry(name);
+                if (zip.isStored(name)) {
+                    final CRC32 crc = new CRC32();
+                    crc.update(content);
+                    stored(entry, content.length, crc.getValue());
                 }
+                zos.putNextEntry(entry);
+                zos.write(content);
+                totalBytes += content.length;
+                onProgress(progressRef, totalBytes);
+                zos.closeEntry();
             }
+        }
 
-            return new Binary(new ByteArrayInputStream(zipBytes)).length(length);
+        zos.finish();
+        zos.flush();
+    }
 
-        } catch (final Exception e) {
-            log.error("[ R2MO ] 压缩文件时发生错误", e);
-            if (progressRef != null) {
-                try {
-                    progressRef.onError(e);
-                } catch (final Exception ex) {
-                    log.debug("[ R2MO ] 错误回调执行失败", ex);
-                }
+    /*
+     * STORED 模式要求在写入条目前给出大小与 CRC，本地文件需要预先扫描一遍计算 CRC
+     */
+    private static void stored(final ZipEntry entry, final Path path, final byte[] buffer) throws IOException {
+        final CRC32 crc = new CRC32();
+        long size = 0;
+        try (final InputStream in = Files.newInputStream(path)) {
+            int len;
+            while ((len = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, len);
+                size += len;
             }
-            return null;
+        }
+        stored(entry, size, crc.getValue());
+    }
+
+    private static void stored(final ZipEntry entry, final long size, final long crc) {
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(size);
+        entry.setCompressedSize(size);
+        entry.setCrc(crc);
+    }
+
+    private static void ensureInput(final Set<String> files, final Set<FileMem> memSet) {
+        if ((files == null || files.isEmpty()) && (memSet == null || memSet.isEmpty())) {
+            throw new IllegalArgumentException("[ R2MO ] 输入文件集合为空！");
+        }
+    }
+
+    static void onProgress(final HProgressor progressRef, final long totalBytes) {
+        if (progressRef != null) {
+            try {
+                progressRef.onProgress(totalBytes);
+            } catch (final Exception e) {
+                log.debug("[ R2MO ] 进度回调失败", e);
+            }
+        }
+    }
+
+    private static void onComplete(final HProgressor progressRef, final long length) {
+        if (progressRef != null) {
+            try {
+                progressRef.onComplete(length);
+            } catch (final Exception e) {
+                log.debug("[ R2MO ] 完成回调失败", e);
+            }
+        }
+    }
+
+    private static void onError(final HProgressor progressRef, final Exception error) {
+        if (progressRef != null) {
+            try {
+                progressRef.onError(error);
+            } catch (final Exception ex) {
+                log.debug("[ R2MO ] 错误回调执行失败", ex);
+            }
+        }
+    }
+
+    /*
+     * 统计写出的压缩包字节数，close 只 flush 不向下传递
+     */
+    private static final class Counter extends FilterOutputStream {
+        private long count = 0;
+
+        private Counter(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            this.out.write(b);
+            this.count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            this.out.write(b, off, len);
+            this.count += len;
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.flush();
         }
     }
 }
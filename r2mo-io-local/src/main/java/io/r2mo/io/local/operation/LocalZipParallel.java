@@ -0,0 +1,418 @@
+package io.r2mo.io.local.operation;
+
+import io.r2mo.base.io.HProgressor;
+import io.r2mo.base.io.common.FileMem;
+import io.r2mo.base.io.common.FileZip;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+/**
+ * 并行压缩，{@link java.util.zip.ZipOutputStream} 只能在单线程中逐个条目压缩，此处将压缩与组装拆开
+ * <pre>
+ *     1. 压缩：每个条目在固定大小的线程池中独立压缩（原始 DEFLATE 数据），同时计算 CRC 与大小，
+ *        压缩结果较小时放在内存中，超过 {@link #SPILL_SIZE} 时落到临时文件
+ *     2. 组装：按原始顺序写出本地文件头、压缩数据，最后写出中央目录，输出与顺序压缩的 ZIP 格式兼容
+ *     3. 压缩任务运行在共享的守护线程池中，每次压缩同时在途的条目数量最多为 parallel 的两倍，内存占用有上界
+ * </pre>
+ * 不支持 ZIP64，条目总大小或数量超过 ZIP 标准格式上限时由 {@link #supported(List)} 判定，调用方退回顺序压缩；
+ * 写出阶段仍会逐项校验大小、偏移与条目数，越界时直接抛出 {@link ZipException}，不会写出被截断的 32 位字段。
+ *
+ * @author lang : 2026-10-18
+ */
+@Slf4j
+class LocalZipParallel {
+
+    // 所有并行压缩共享的守护线程池，线程数为 CPU 核数
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+        Math.max(2, Runtime.getRuntime().availableProcessors()), new Factory());
+    private static final long SPILL_SIZE = 16L * 1024 * 1024;
+    private static final long LIMIT_SIZE = 0xFFFFFFFFL;
+    private static final int LIMIT_COUNT = 0xFFFF;
+    private static final int VERSION = 20;
+    // bit 11：文件名使用 UTF-8 编码，与 ZipOutputStream 的默认行为一致
+    private static final int FLAG_UTF8 = 0x0800;
+
+    private LocalZipParallel() {
+    }
+
+    static List<Object> sources(final Set<String> files, final Set<FileMem> memSet) {
+        final List<Object> sources = new ArrayList<>();
+        if (files != null) {
+            for (final String filePath : files) {
+                final Path path = Paths.get(filePath);
+                if (!Files.exists(path)) {
+                    log.warn("[ R2MO ] 文件不存在: {}", filePath);
+                    continue;
+                }
+                sources.add(path);
+            }
+        }
+        if (memSet != null) {
+            for (final FileMem fileMem : memSet) {
+                if (fileMem.name() == null || fileMem.content() == null) {
+                    log.warn("[ R2MO ] 内存文件无效: name={}, content={}", fileMem.name(), fileMem.content() != null);
+                    continue;
+                }
+                sources.add(fileMem);
+            }
+        }
+        return sources;
+    }
+
+    static boolean supported(final List<Object> sources) throws IOException {
+        if (LIMIT_COUNT <= sources.size()) {
+            return false;
+        }
+        long total = 0;
+        for (final Object source : sources) {
+            total += (source instanceof final Path path) ? Files.size(path) : ((FileMem) source).content().length;
+        }
+        // 预留压缩膨胀与文件头的空间
+        return total < LIMIT_SIZE - LIMIT_SIZE / 10;
+    }
+
+    static void write(final List<Object> sources,
+                      final OutputStream out,
+                      final FileZip zip,
+                      final HProgressor progressRef) throws IOException {
+        if (LIMIT_COUNT <= sources.size()) {
+            throw new ZipException("[ R2MO ] 条目数量超过 ZIP 标准格式上限（" + LIMIT_COUNT + "），请使用顺序压缩");
+        }
+        final Set<String> names = new HashSet<>();
+        final int dosTime = dosTime(LocalDateTime.now());
+        final Deque<Task> pending = new ArrayDeque<>();
+        final List<Compressed> directory = new ArrayList<>(sources.size());
+        final Writer writer = new Writer(out);
+        try {
+            final Iterator<Object> it = sources.iterator();
+            long totalBytes = 0;
+            while (it.hasNext() || !pending.isEmpty()) {
+                // 保持最多 2 * parallel 个条目在途，实际并发同时受共享线程池大小限制
+                while (it.hasNext() && pending.size() < 2 * zip.parallel()) {
+                    final Object source = it.next();
+                    final String name = (source instanceof final Path path)
+                        ? path.getFileName().toString() : ((FileMem) source).name();
+                    if (!names.add(name)) {
+                        throw new ZipException("duplicate entry: " + name);
+                    }
+                    final Task task = new Task();
+                    task.future = EXECUTOR.submit(() -> task.publish(compress(source, name, zip)));
+                    pending.add(task);
+                }
+                final Compressed entry = await(pending.poll().future);
+                try {
+                    entry.offset = writer.count;
+                    writer.local(entry, dosTime);
+                    entry.transferTo(writer);
+                } finally {
+                    entry.release();
+                }
+                directory.add(entry);
+                totalBytes += entry.size;
+                LocalZip.onProgress(progressRef, totalBytes);
+            }
+            writer.directory(directory, dosTime);
+            writer.flush();
+        } finally {
+            // 异常退出时释放尚未组装的条目，仍在执行的任务完成后自行释放
+            pending.forEach(Task::abort);
+        }
+    }
+
+    private static Compressed await(final Future<Compressed> future) throws IOException {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("[ R2MO ] 并行压缩被中断", ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof final IOException io) {
+                throw io;
+            }
+            throw new IOException("[ R2MO ] 并行压缩失败", ex.getCause());
+        }
+    }
+
+    private static Compressed compress(final Object source, final String name, final FileZip zip) throws IOException {
+        final Compressed entry = new Compressed(name);
+        final boolean stored = zip.isStored(name);
+        entry.method = stored ? ZipEntry.STORED : ZipEntry.DEFLATED;
+        final CRC32 crc = new CRC32();
+        if (source instanceof final Path path) {
+            log.info("[ R2MO ] 正在压缩本地文件: {}", path);
+            if (stored) {
+                // STORED 模式直接引用源文件，组装阶段再读取
+                final byte[] buffer = new byte[8192];
+                try (final InputStream in = Files.newInputStream(path)) {
+                    int len;
+                    while ((len = in.read(buffer)) != -1) {
+                        crc.update(buffer, 0, len);
+                        entry.size += len;
+                    }
+                }
+                entry.csize = entry.size;
+                entry.source = path;
+            } else {
+                try (final InputStream in = Files.newInputStream(path)) {
+                    deflate(entry, in, crc, zip.level(), Files.size(path) > SPILL_SIZE);
+                }
+            }
+        } else {
+            final byte[] content = ((FileMem) source).content();
+            log.info("[ R2MO ] 正在压缩内存文件: {}", name);
+            if (stored) {
+                crc.update(content);
+                entry.size = content.length;
+                entry.csize = content.length;
+                entry.data = content;
+            } else {
+                deflate(entry, new ByteArrayInputStream(content), crc, zip.level(), content.length > SPILL_SIZE);
+            }
+        }
+        entry.crc = crc.getValue();
+        return entry;
+    }
+
+    private static void deflate(final Compressed entry, final InputStream in, final CRC32 crc,
+                                final int level, final boolean spill) throws IOException {
+        final Deflater deflater = new Deflater(level, true);
+        final ByteArrayOutputStream memory = spill ? null : new ByteArrayOutputStream();
+        if (spill) {
+            entry.spill = Files.createTempFile("r2mo-zip-", ".tmp");
+        }
+        try (final OutputStream target = spill ? Files.newOutputStream(entry.spill) : memory;
+             final DeflaterOutputStream dos = new DeflaterOutputStream(target, deflater, 8192)) {
+            final byte[] buffer = new byte[8192];
+            int len;
+            while ((len = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, len);
+                dos.write(buffer, 0, len);
+                entry.size += len;
+            }
+            dos.finish();
+            entry.csize = deflater.getBytesWritten();
+        } catch (final IOException | RuntimeException ex) {
+            entry.release();
+            throw ex;
+        } finally {
+            deflater.end();
+        }
+        if (!spill) {
+            entry.data = memory.toByteArray();
+        }
+    }
+
+    private static int dosTime(final LocalDateTime time) {
+        final int year = Math.max(time.getYear(), 1980);
+        return ((year - 1980) << 25)
+            | (time.getMonthValue() << 21)
+            | (time.getDayOfMonth() << 16)
+            | (time.getHour() << 11)
+            | (time.getMinute() << 5)
+            | (time.getSecond() >> 1);
+    }
+
+    /*
+     * 在途的压缩任务：abort 与 publish 互斥，任务在 abort 之后完成时由任务自身释放压缩结果（临时文件），
+     * abort 之前完成时由 abort 释放
+     */
+    private static final class Task {
+        private Future<Compressed> future;
+        private Compressed entry;
+        private boolean aborted = false;
+
+        private synchronized Compressed publish(final Compressed entry) {
+            if (this.aborted) {
+                entry.release();
+                return null;
+            }
+            this.entry = entry;
+            return entry;
+        }
+
+        private synchronized void abort() {
+            this.aborted = true;
+            if (Objects.nonNull(this.entry)) {
+                this.entry.release();
+            }
+            if (Objects.nonNull(this.future)) {
+                this.future.cancel(false);
+            }
+        }
+    }
+
+    /*
+     * 单个条目的压缩结果，数据来源三选一：内存数据 / 临时文件 / 源文件（STORED）
+     */
+    private static final class Compressed {
+        private final byte[] name;
+        private int method;
+        private long crc;
+        private long size;
+        private long csize;
+        private long offset;
+        private byte[] data;
+        private Path spill;
+        private Path source;
+
+        private Compressed(final String name) {
+            this.name = name.getBytes(StandardCharsets.UTF_8);
+        }
+
+        private void transferTo(final OutputStream out) throws IOException {
+            if (Objects.nonNull(this.data)) {
+                out.write(this.data);
+            } else {
+                Files.copy(Objects.isNull(this.spill) ? this.source : this.spill, out);
+            }
+        }
+
+        private void release() {
+            this.data = null;
+            if (Objects.nonNull(this.spill)) {
+                try {
+                    Files.deleteIfExists(this.spill);
+                } catch (final IOException ex) {
+                    log.warn("[ R2MO ] 临时文件删除失败: {}", this.spill, ex);
+                }
+                this.spill = null;
+            }
+        }
+    }
+
+    private static class Factory implements ThreadFactory {
+        private final AtomicInteger index = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "r2mo-zip-" + this.index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    /*
+     * ZIP 结构写出，所有数值均为小端序，不支持 ZIP64：偏移、大小超过 32 位或条目数超过 65535 时抛出 ZipException
+     */
+    private static final class Writer extends OutputStream {
+        private final OutputStream out;
+        private long count = 0;
+
+        private Writer(final OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            this.out.write(b);
+            this.count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            this.out.write(b, off, len);
+            this.count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            this.out.flush();
+        }
+
+        private void local(final Compressed entry, final int dosTime) throws IOException {
+            this.ensure(entry.offset);
+            this.ensure(entry.csize);
+            this.ensure(entry.size);
+            this.int32(0x04034b50);
+            this.int16(VERSION);
+            this.int16(FLAG_UTF8);
+            this.int16(entry.method);
+            this.int32(dosTime);
+            this.int32(entry.crc);
+            this.int32(entry.csize);
+            this.int32(entry.size);
+            this.int16(entry.name.length);
+            this.int16(0);
+            this.write(entry.name);
+        }
+
+        private void directory(final List<Compressed> entries, final int dosTime) throws IOException {
+            final long start = this.count;
+            for (final Compressed entry : entries) {
+                this.int32(0x02014b50);
+                this.int16(VERSION);
+                this.int16(VERSION);
+                this.int16(FLAG_UTF8);
+                this.int16(entry.method);
+                this.int32(dosTime);
+                this.int32(entry.crc);
+                this.int32(entry.csize);
+                this.int32(entry.size);
+                this.int16(entry.name.length);
+                this.int16(0);
+                this.int16(0);
+                this.int16(0);
+                this.int16(0);
+                this.int32(0);
+                this.int32(entry.offset);
+                this.write(entry.name);
+            }
+            final long size = this.count - start;
+            this.ensure(start);
+            this.ensure(size);
+            this.int32(0x06054b50);
+            this.int16(0);
+            this.int16(0);
+            this.int16(entries.size());
+            this.int16(entries.size());
+            this.int32(size);
+            this.int32(start);
+            this.int16(0);
+        }
+
+        private void ensure(final long value) throws ZipException {
+            if (LIMIT_SIZE <= value) {
+                throw new ZipException("[ R2MO ] 压缩包超过 ZIP 标准格式上限，请使用顺序压缩");
+            }
+        }
+
+        private void int16(final int value) throws IOException {
+            this.write(value & 0xFF);
+            this.write((value >>> 8) & 0xFF);
+        }
+
+        private void int32(final long value) throws IOException {
+            this.int16((int) (value & 0xFFFF));
+            this.int16((int) ((value >>> 16) & 0xFFFF));
+        }
+    }
+}
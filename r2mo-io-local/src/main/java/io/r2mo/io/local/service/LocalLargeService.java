@@ -11,7 +11,9 @@ import io.r2mo.base.io.transfer.token.TransferToken;
 import io.r2mo.base.io.transfer.token.TransferTokenService;
 import io.r2mo.function.Fn;
 import io.r2mo.io.component.node.StoreInit;
+import io.r2mo.io.local.transfer.TransDigest;
 import io.r2mo.io.local.transfer.TransDownload;
+import io.r2mo.io.local.transfer.TransMerge;
 import io.r2mo.io.local.transfer.TransUpload;
 import io.r2mo.io.modeling.TransferResponse;
 import io.r2mo.io.service.TransferLargeService;
@@ -21,6 +23,7 @@ import io.r2mo.typed.common.Ref;
 import io.r2mo.typed.exception.web._400BadRequestException;
 import io.r2mo.typed.exception.web._404NotFoundException;
 import io.r2mo.typed.json.JArray;
+import io.r2mo.typed.json.JObject;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
@@ -29,12 +32,10 @@ import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
 import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -55,7 +56,11 @@ class LocalLargeService extends AbstractTransferService implements TransferLarge
     private static final Map<String, List<StoreChunk>> CHUNK_STORE = new ConcurrentHashMap<>();
     private static final Map<String, List<StoreChunk>> UPLOADED_CHUNKS = new ConcurrentHashMap<>();
     private static final Map<String, List<StoreChunk>> WAITING_CHUNKS = new ConcurrentHashMap<>();
-    private static final char[] HEX_ARRAY = "0123456789ABCDEF".toCharArray();
+    private static final String CONFIG_PREALLOCATE = "finalPreallocate";
+    private static final String CONFIG_SYNC = "finalSync";
+    private static final String CONFIG_CHECKSUM = "fileChecksum";
+    // 整文件滚动摘要，仅在令牌配置了 fileChecksum 时存在
+    private static final Map<String, TransDigest> FILE_DIGEST = new ConcurrentHashMap<>();
     private final StoreInit<List<StoreChunk>> initializer;
     // 节点管理器实例 — static 共享，跨线程/跨实例可见
     private static final NodeManager nm = NodeManager.of();
@@ -97,6 +102,10 @@ class LocalLargeService extends AbstractTransferService implements TransferLarge
         CHUNK_STORE.put(tokenId, new CopyOnWriteArrayList<>(chunks));
         UPLOADED_CHUNKS.put(tokenId, new CopyOnWriteArrayList<>());
         WAITING_CHUNKS.put(tokenId, new CopyOnWriteArrayList<>(chunks));
+        // 提供了整文件校验码时开启滚动摘要
+        if (Objects.nonNull(this.fileChecksum(tokenId))) {
+            FILE_DIGEST.put(tokenId, new TransDigest());
+        }
     }
 
     @Override
@@ -108,10 +117,21 @@ class LocalLargeService extends AbstractTransferService implements TransferLarge
             throw new _404NotFoundException("[ R2MO ] 指定的分块不存在: " + index);
         }
 
-        // 执行分块上传
-        final boolean uploadSuccess = TransUpload.of().write(targetChunk.getStorePath(), fileData);
+        // 执行分块上传，写盘过程中同步计算分块摘要（以及可选的整文件滚动摘要）
+        final MessageDigest chunkDigest = TransDigest.sha256();
+        InputStream input = new DigestInputStream(fileData, chunkDigest);
+        final TransDigest rolling = FILE_DIGEST.get(token);
+        final boolean rollingOn = Objects.nonNull(rolling) && rolling.begin(index);
+        if (rollingOn) {
+            input = new DigestInputStream(input, rolling.digest());
+        }
+        final boolean uploadSuccess = TransUpload.of().write(targetChunk.getStorePath(), input);
+        if (rollingOn) {
+            rolling.end(uploadSuccess);
+        }
 
         if (uploadSuccess) {
+            targetChunk.setDigest(TransDigest.hex(chunkDigest.digest()));
             // 更新分块状态
             this.updateChunkStatus(token, targetChunk, true);
             return TransferResult.SUCCESS;
@@ -186,7 +206,9 @@ class LocalLargeService extends AbstractTransferService implements TransferLarge
         // 1. 验证所有分块的完整性
         this.validChunks(token);
         // 2.执行分块合并逻辑
-        this.mergeChunks(token);
+        final Path finalFilePath = this.mergeChunks(token);
+        // 2.1 整文件校验（仅在提供了整文件校验码时执行）
+        this.validFile(token, finalFilePath);
         // 3.删除分片文件
         this.rmChunk(token);
         // 4. 清理状态
@@ -200,6 +222,7 @@ class LocalLargeService extends AbstractTransferService implements TransferLarge
         CHUNK_STORE.remove(token);
         UPLOADED_CHUNKS.remove(token);
         WAITING_CHUNKS.remove(token);
+        FILE_DIGEST.remove(token);
         log.info("[ R2MO ] 清理token完成：{}", token);
     }
 
@@ -220,7 +243,7 @@ class LocalLargeService extends AbstractTransferService implements TransferLarge
     /**
      * 合并所有分块为一个完整文件
      */
-    private void mergeChunks(final String token) {
+    private Path mergeChunks(final String token) {
         final List<StoreChunk> allChunks = this.resolveChunks(token);
         // 获取最终文件路径
         final Path finalFilePath = this.finalFilePath(token, allChunks);
@@ -228,24 +251,16 @@ class LocalLargeService extends AbstractTransferService implements TransferLarge
         // 确保目标目录存在
         Fn.jvmOr(() -> Files.createDirectories(finalFilePath.getParent()));
 
-        // 按分块索引排序，确保按正确顺序合并
-        final List<StoreChunk> sortedChunks = allChunks.stream()
-            .sorted(Comparator.comparingLong(StoreChunk::getIndex))
-            .toList();
-        // 执行合并操作
-        try (final OutputStream outputStream = Files.newOutputStream(finalFilePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
-            for (final StoreChunk chunk : sortedChunks) {
-                final Binary chunkData = TransDownload.of().read(chunk.getStorePath());
-                if (chunkData == null) {
-                    log.error("[ R2MO ] 读取分块失败，无法合并: chunkId={}", chunk.getId());
-                    throw new _400BadRequestException("[ R2MO ] 读取分块失败，无法合并: chunkId=" + chunk.getId());
-                }
-                // 将分块数据写入最终文件
-                outputStream.write(chunkData.stream().readAllBytes());
-                log.debug("[ R2MO ] 已合并分块: {} -> {}", chunk.getId(), finalFilePath);
-            }
-            outputStream.flush();
-            log.info("[ R2MO ] 文件合并完成: path={}, 总大小: {} bytes", finalFilePath, Files.size(finalFilePath));
+        // 合并策略：finalPreallocate / finalSync 可通过令牌配置调整
+        final TransferToken tokenInfo = this.token.runValidate(token);
+        final JObject configuration = Objects.isNull(tokenInfo) ? null : tokenInfo.getConfiguration();
+        final boolean preallocate = Objects.nonNull(configuration) && configuration.getBool(CONFIG_PREALLOCATE, false);
+        final TransMerge.Sync sync = TransMerge.Sync.from(Objects.isNull(configuration) ? null : configuration.getString(CONFIG_SYNC));
+        // 执行合并操作，分块按索引排序后通过 FileChannel 直接追加，不经过堆内存
+        try {
+            final long merged = TransMerge.of().merge(allChunks, finalFilePath, preallocate, sync);
+            log.info("[ R2MO ] 文件合并完成: path={}, 总大小: {} bytes", finalFilePath, merged);
+            return finalFilePath;
         } catch (final IOException e) {
             log.error("[ R2MO ] 合并文件时发生IO异常: path={}", finalFilePath, e);
             throw new _400BadRequestException("[ R2MO ] 合并文件时发生IO异常: path=" + finalFilePath);
@@ -294,18 +309,22 @@ class LocalLargeService extends AbstractTransferService implements TransferLarge
         }
 
         // 2. 磁盘完整性校验（仅 warn，不阻断流程）
+        final HStore store = SPI.V_STORE;
         for (final StoreChunk chunk : allChunks) {
             try {
-                final Binary data = TransDownload.of().read(chunk.getStorePath());
-                if (data == null || data.length() != chunk.getSize()) {
+                final Path path = Paths.get(HUri.UT.resolve(store.pHome(), chunk.getStorePath()));
+                final long actualSize = Files.size(path);
+                if (Objects.isNull(chunk.getSize()) || actualSize != chunk.getSize()) {
                     log.warn("[ R2MO ] 分块大小校验失败: chunkId={}, 期望: {}, 实际: {}",
-                        chunk.getId(), chunk.getSize(), (data != null ? data.length() : "null"));
+                        chunk.getId(), chunk.getSize(), actualSize);
                 }
 
                 // 哈希校验（如果chunk中有存储期望的哈希值）
                 if (chunk.getChecksum() != null && !chunk.getChecksum().isEmpty()) {
-                    final String actualHash = this.calculateHash(data);
-                    if (!chunk.getChecksum().equals(actualHash)) {
+                    // 写入时已经计算过摘要则直接比对，否则（如令牌恢复的分块）退回流式读取计算
+                    final String actualHash = Objects.nonNull(chunk.getDigest())
+                        ? chunk.getDigest() : this.calculateHash(path);
+                    if (!chunk.getChecksum().equalsIgnoreCase(actualHash)) {
                         log.warn("[ R2MO ] 分块哈希校验失败: chunkId={}", chunk.getId());
                     }
                 }
@@ -318,27 +337,46 @@ class LocalLargeService extends AbstractTransferService implements TransferLarge
     }
 
     /**
-     * 计算数据的SHA-256哈希值
+     * 整文件校验：分块顺序到达时直接使用滚动摘要，否则流式读取合并后的文件计算（仅 warn，不阻断流程）
      */
-    private String calculateHash(final Binary data) {
-        try {
-            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            final byte[] hashBytes = digest.digest(Fn.jvmOr(data.stream()::readAllBytes));
-            return this.bytesToHex(hashBytes);
-        } catch (final NoSuchAlgorithmException e) {
-            log.error("[ R2MO ] 哈希算法不可用", e);
+    private void validFile(final String token, final Path finalFilePath) {
+        final String expected = this.fileChecksum(token);
+        final TransDigest rolling = FILE_DIGEST.remove(token);
+        if (Objects.isNull(expected)) {
+            return;
+        }
+        final int count = CHUNK_STORE.getOrDefault(token, Collections.emptyList()).size();
+        String actual = Objects.isNull(rolling) ? null : rolling.result(count);
+        if (Objects.isNull(actual)) {
+            log.info("[ R2MO ] 滚动摘要不可用，读取合并文件计算摘要: token={}", token);
+            actual = this.calculateHash(finalFilePath);
+        }
+        if (!expected.equalsIgnoreCase(actual)) {
+            log.warn("[ R2MO ] 文件哈希校验失败: token={}, 期望: {}, 实际: {}", token, expected, actual);
+        }
+    }
+
+    private String fileChecksum(final String token) {
+        final TransferToken tokenInfo = this.token.runValidate(token);
+        if (Objects.isNull(tokenInfo) || Objects.isNull(tokenInfo.getConfiguration())) {
             return null;
         }
+        final String checksum = tokenInfo.getConfiguration().getString(CONFIG_CHECKSUM);
+        return Objects.isNull(checksum) || checksum.isBlank() ? null : checksum.trim();
     }
 
-    private String bytesToHex(final byte[] bytes) {
-        final char[] hexChars = new char[bytes.length * 2];
-        for (int i = 0; i < bytes.length; i++) {
-            final int v = bytes[i] & 0xFF;
-            hexChars[i * 2] = HEX_ARRAY[v >>> 4];
-            hexChars[i * 2 + 1] = HEX_ARRAY[v & 0x0F];
+    /**
+     * 流式计算文件的SHA-256哈希值
+     */
+    private String calculateHash(final Path path) {
+        final MessageDigest digest = TransDigest.sha256();
+        try (final InputStream in = new DigestInputStream(Files.newInputStream(path), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return TransDigest.hex(digest.digest());
+        } catch (final IOException e) {
+            log.error("[ R2MO ] 计算哈希失败: path={}", path, e);
+            return null;
         }
-        return new String(hexChars);
     }
 
     /**
@@ -0,0 +1,86 @@
+package io.r2mo.io.local.transfer;
+
+import io.r2mo.typed.exception.web._501NotSupportException;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 写入时摘要（digest-on-write），上传分块在写盘过程中同步计算 SHA-256，避免完成阶段再次读取分块
+ * <pre>
+ *     1. {@link #sha256()} 为单个分块提供独立的摘要实例
+ *     2. 实例对象为整文件的滚动摘要：只有分块按索引 0, 1, 2 ... 顺序到达时才能持续累加，
+ *        任意一个分块乱序、重传或失败都会使滚动摘要失效，此时由调用方退回到读取合并文件的方式
+ * </pre>
+ *
+ * @author lang : 2026-10-18
+ */
+public class TransDigest {
+    private static final String ALGORITHM = "SHA-256";
+    private final MessageDigest digest;
+    private int next = 0;
+    private boolean busy = false;
+    private boolean broken = false;
+
+    public TransDigest() {
+        this.digest = sha256();
+    }
+
+    public static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new _501NotSupportException("[ R2MO ] 哈希算法不可用：" + ALGORITHM);
+        }
+    }
+
+    public static String hex(final byte[] bytes) {
+        return HexFormat.of().withUpperCase().formatHex(bytes);
+    }
+
+    /**
+     * 分块写入前调用，只有下一个期望的分块才能参与滚动摘要
+     *
+     * @param index 分块索引
+     *
+     * @return true 表示当前分块需要同步更新滚动摘要
+     */
+    public synchronized boolean begin(final int index) {
+        if (this.broken) {
+            return false;
+        }
+        if (this.busy || index != this.next) {
+            this.broken = true;
+            return false;
+        }
+        this.busy = true;
+        return true;
+    }
+
+    public synchronized void end(final boolean success) {
+        this.busy = false;
+        if (success) {
+            this.next++;
+        } else {
+            // 失败分块的部分数据已经进入摘要，滚动摘要无法恢复
+            this.broken = true;
+        }
+    }
+
+    public MessageDigest digest() {
+        return this.digest;
+    }
+
+    /**
+     * @param count 分块总数
+     *
+     * @return 整文件摘要，滚动摘要失效或分块未全部覆盖时返回 null
+     */
+    public synchronized String result(final int count) {
+        if (this.broken || this.busy || count != this.next) {
+            return null;
+        }
+        return hex(this.digest.digest());
+    }
+}
@@ -0,0 +1,135 @@
+package io.r2mo.io.local.transfer;
+
+import io.r2mo.base.io.HStore;
+import io.r2mo.base.io.HUri;
+import io.r2mo.base.io.modeling.StoreChunk;
+import io.r2mo.spi.SPI;
+import io.r2mo.typed.cc.Cc;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 分块合并引擎，基于 {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)} 将分块文件
+ * 直接追加到目标文件中，数据在内核态完成拷贝，不经过堆内存
+ * <pre>
+ *     1. 分块按 {@link StoreChunk#getIndex()} 排序后顺序追加，与原始合并流程的顺序约定一致
+ *     2. preallocate = true 时先把目标文件长度设置为所有分块大小之和（只在末尾写入一个字节，
+ *        多数文件系统上得到的是稀疏文件，不会真正分配磁盘块，也不保证磁盘空间充足），
+ *        仅用于让目标文件一开始就呈现最终长度
+ *     3. {@link Sync} 控制落盘策略：NONE（默认）不主动落盘，END 合并完成后落盘一次，CHUNK 每个分块合并后落盘
+ * </pre>
+ *
+ * @author lang : 2026-10-18
+ */
+@Slf4j
+public class TransMerge {
+    private static final Cc<String, TransMerge> CCT_MERGE = Cc.openThread();
+
+    private TransMerge() {
+    }
+
+    public static TransMerge of() {
+        return CCT_MERGE.pick(TransMerge::new);
+    }
+
+    public long merge(final List<StoreChunk> chunks, final Path target) throws IOException {
+        return this.merge(chunks, target, false, Sync.NONE);
+    }
+
+    /**
+     * 合并分块到目标文件
+     *
+     * @param chunks      分块信息
+     * @param target      目标文件
+     * @param preallocate 是否预先设置目标文件长度（稀疏文件，不分配磁盘块）
+     * @param sync        落盘策略
+     *
+     * @return 合并后的总字节数
+     * @throws IOException 读取分块或写入目标文件失败
+     */
+    public long merge(final List<StoreChunk> chunks, final Path target,
+                      final boolean preallocate, final Sync sync) throws IOException {
+        final HStore store = SPI.V_STORE;
+        final List<StoreChunk> sortedChunks = chunks.stream()
+            .sorted(Comparator.comparingLong(StoreChunk::getIndex))
+            .toList();
+        try (final FileChannel output = FileChannel.open(target,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (preallocate) {
+                this.preallocate(output, sortedChunks);
+            }
+            long position = 0;
+            for (final StoreChunk chunk : sortedChunks) {
+                final Path source = Paths.get(HUri.UT.resolve(store.pHome(), chunk.getStorePath()));
+                try (final FileChannel input = FileChannel.open(source, StandardOpenOption.READ)) {
+                    final long size = input.size();
+                    long transferred = 0;
+                    // transferTo 单次调用可能无法传输全部数据，需要循环直到完成
+                    while (transferred < size) {
+                        final long written = input.transferTo(transferred, size - transferred,
+                            output.position(position + transferred));
+                        if (0 >= written) {
+                            throw new IOException("[ R2MO ] 分块传输中断: chunkId=" + chunk.getId()
+                                + ", " + transferred + "/" + size);
+                        }
+                        transferred += written;
+                    }
+                    position += size;
+                }
+                if (Sync.CHUNK == sync) {
+                    output.force(false);
+                }
+                log.debug("[ R2MO ] 已合并分块: {} -> {}", chunk.getId(), target);
+            }
+            // 预分配长度与实际长度不一致时以实际数据为准
+            if (output.size() > position) {
+                output.truncate(position);
+            }
+            if (Sync.NONE != sync) {
+                output.force(true);
+            }
+            return position;
+        }
+    }
+
+    /*
+     * 在 total - 1 处写入一个字节，只改变文件长度，中间区域是空洞
+     */
+    private void preallocate(final FileChannel output, final List<StoreChunk> chunks) throws IOException {
+        final long total = chunks.stream()
+            .map(StoreChunk::getSize)
+            .filter(Objects::nonNull)
+            .mapToLong(Long::longValue)
+            .sum();
+        if (0 < total) {
+            output.write(ByteBuffer.wrap(new byte[]{0}), total - 1);
+        }
+    }
+
+    public enum Sync {
+        NONE,
+        END,
+        CHUNK;
+
+        public static Sync from(final String literal) {
+            if (Objects.isNull(literal) || literal.isBlank()) {
+                return NONE;
+            }
+            for (final Sync sync : values()) {
+                if (sync.name().equalsIgnoreCase(literal.trim())) {
+                    return sync;
+                }
+            }
+            return NONE;
+        }
+    }
+}
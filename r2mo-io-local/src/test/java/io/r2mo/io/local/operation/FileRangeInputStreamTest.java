@@ -0,0 +1,140 @@
+package io.r2mo.io.local.operation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exercises FileRangeInputStream against a temp file: every read path
+ * (bulk, single byte through the internal buffer, transferTo) must return
+ * exactly the bytes of [start, end) and stop at the range end.
+ */
+class FileRangeInputStreamTest {
+
+    // larger than the internal 8 KiB buffer so single-byte reads refill it
+    private static final int FILE_SIZE = 40_000;
+    private static final int START = 1_000;
+    private static final int END = 30_000;
+
+    @TempDir
+    Path dir;
+
+    private Path file;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.content = new byte[FILE_SIZE];
+        for (int i = 0; i < FILE_SIZE; i++) {
+            this.content[i] = (byte) (i * 31 + 7);
+        }
+        this.file = Files.write(this.dir.resolve("range.bin"), this.content);
+    }
+
+    @Test
+    void invalidBounds_rejected() {
+        assertThrows(IllegalArgumentException.class, () -> FileRangeInputStream.getInputStream(this.file, -1, 10));
+        assertThrows(IllegalArgumentException.class, () -> FileRangeInputStream.getInputStream(this.file, 10, 5));
+        assertThrows(IllegalArgumentException.class, () -> FileRangeInputStream.getInputStream(this.file, FILE_SIZE + 1, FILE_SIZE + 2));
+        assertThrows(IllegalArgumentException.class, () -> FileRangeInputStream.getInputStream(this.file, 0, FILE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> FileRangeInputStream.getInputStream(this.file, 10, 10));
+    }
+
+    @Test
+    void bulkRead_returnsExactRange() throws Exception {
+        try (final InputStream in = FileRangeInputStream.getInputStream(this.file, START, END)) {
+            assertArrayEquals(this.slice(START, END), in.readAllBytes());
+        }
+        try (final InputStream in = FileRangeInputStream.getInputStream(this.file, 0, FILE_SIZE)) {
+            assertArrayEquals(this.content, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void singleByteRead_acrossBufferRefills_thenBulkRead() throws Exception {
+        final int singles = 10_000;
+        final byte[] actual = new byte[END - START];
+        try (final InputStream in = FileRangeInputStream.getInputStream(this.file, START, END)) {
+            for (int i = 0; i < singles; i++) {
+                final int value = in.read();
+                assertNotEquals(-1, value);
+                actual[i] = (byte) value;
+            }
+            // the remainder mixes the leftover buffered bytes with direct positional reads
+            final byte[] rest = in.readAllBytes();
+            System.arraycopy(rest, 0, actual, singles, rest.length);
+            assertEquals(actual.length - singles, rest.length);
+        }
+        assertArrayEquals(this.slice(START, END), actual);
+    }
+
+    @Test
+    void skip_movesWithinRangeAndInvalidatesBuffer() throws Exception {
+        try (final InputStream in = FileRangeInputStream.getInputStream(this.file, START, END)) {
+            assertEquals(0, in.skip(0));
+            assertEquals(0, in.skip(-5));
+            assertEquals(this.content[START] & 0xFF, in.read());
+            // the buffer now holds bytes after START + 1; skip must discard them
+            assertEquals(100, in.skip(100));
+            assertEquals(this.content[START + 101] & 0xFF, in.read());
+            final byte[] chunk = new byte[16];
+            assertEquals(16, in.read(chunk));
+            assertArrayEquals(this.slice(START + 102, START + 118), chunk);
+            // skipping past the end stops at the range end
+            assertEquals(END - START - 118, in.skip(Long.MAX_VALUE));
+            assertEquals(0, in.skip(1));
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    void available_tracksRemainingBytes() throws Exception {
+        try (final InputStream in = FileRangeInputStream.getInputStream(this.file, START, END)) {
+            assertEquals(END - START, in.available());
+            assertNotEquals(-1, in.read());
+            assertEquals(END - START - 1, in.available());
+            assertEquals(500, in.read(new byte[500]));
+            assertEquals(END - START - 501, in.available());
+            in.skip(Long.MAX_VALUE);
+            assertEquals(0, in.available());
+        }
+    }
+
+    @Test
+    void transferTo_writesBufferedAndRemainingBytes() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (final InputStream in = FileRangeInputStream.getInputStream(this.file, START, END)) {
+            final int first = in.read();
+            final long transferred = in.transferTo(out);
+            assertEquals(END - START - 1, transferred);
+            assertEquals(this.content[START] & 0xFF, first);
+            assertEquals(-1, in.read());
+        }
+        assertArrayEquals(this.slice(START + 1, END), out.toByteArray());
+    }
+
+    @Test
+    void endOfRange_returnsMinusOne() throws Exception {
+        try (final InputStream in = FileRangeInputStream.getInputStream(this.file, FILE_SIZE - 4, FILE_SIZE)) {
+            final byte[] b = new byte[10];
+            assertEquals(4, in.read(b, 0, 10));
+            assertArrayEquals(this.slice(FILE_SIZE - 4, FILE_SIZE), Arrays.copyOf(b, 4));
+            assertEquals(0, in.read(b, 0, 0));
+            assertEquals(-1, in.read(b, 0, 10));
+            assertEquals(-1, in.read());
+            assertEquals(0, in.transferTo(new ByteArrayOutputStream()));
+        }
+    }
+
+    private byte[] slice(final int from, final int to) {
+        return Arrays.copyOfRange(this.content, from, to);
+    }
+}
@@ -0,0 +1,167 @@
+package io.r2mo.io.local.operation;
+
+import io.r2mo.base.io.common.FileMem;
+import io.r2mo.base.io.common.FileZip;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Round-trips the hand-assembled archive written by LocalZipParallel through
+ * the JDK readers: ZipFile walks the central directory, ZipInputStream walks
+ * the local headers, and both must agree with the original bytes and CRCs.
+ */
+class LocalZipParallelTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void parallelArchive_readableByZipFileAndZipInputStream() throws Exception {
+        final Map<String, byte[]> expected = new HashMap<>();
+        final Set<String> files = new LinkedHashSet<>();
+
+        // DEFLATED, small enough to stay in memory
+        files.add(this.file("plain.txt", this.text(200_000), expected));
+        // STORED by extension
+        files.add(this.file("image.png", this.random(300_000), expected));
+        // DEFLATED, larger than the spill threshold so it goes through a temp file
+        files.add(this.file("large.log", this.text(17 * 1024 * 1024), expected));
+        // empty file
+        files.add(this.file("empty.txt", new byte[0], expected));
+
+        final Set<FileMem> memSet = new LinkedHashSet<>();
+        memSet.add(this.mem("data.json", "{\"name\":\"数据\"}".getBytes(StandardCharsets.UTF_8), expected));
+        memSet.add(this.mem("archive.zip", this.random(4096), expected));
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final long length = LocalZip.inBinaryTo(files, memSet, out, FileZip.ofParallel().parallel(4), null);
+        assertEquals(out.size(), length);
+
+        final Path zipped = this.dir.resolve("out.zip");
+        Files.write(zipped, out.toByteArray());
+
+        try (final ZipFile zipFile = new ZipFile(zipped.toFile())) {
+            assertEquals(expected.size(), zipFile.size());
+            final List<String> names = new ArrayList<>();
+            zipFile.stream().forEach(entry -> names.add(entry.getName()));
+            assertEquals(List.of("plain.txt", "image.png", "large.log", "empty.txt", "data.json", "archive.zip"), names);
+            for (final Map.Entry<String, byte[]> item : expected.entrySet()) {
+                final ZipEntry entry = zipFile.getEntry(item.getKey());
+                assertNotNull(entry, item.getKey());
+                assertEquals(this.method(item.getKey()), entry.getMethod(), item.getKey());
+                assertEquals(item.getValue().length, entry.getSize(), item.getKey());
+                assertEquals(this.crc(item.getValue()), entry.getCrc(), item.getKey());
+                try (final InputStream in = zipFile.getInputStream(entry)) {
+                    assertArrayEquals(item.getValue(), in.readAllBytes(), item.getKey());
+                }
+            }
+        }
+
+        int count = 0;
+        try (final ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zis.getNextEntry()) != null) {
+                final byte[] content = zis.readAllBytes();
+                assertArrayEquals(expected.get(entry.getName()), content, entry.getName());
+                assertEquals(this.crc(content), entry.getCrc(), entry.getName());
+                count++;
+            }
+        }
+        assertEquals(expected.size(), count);
+    }
+
+    @Test
+    void parallelArchive_tooManyEntries_failsExplicitly() {
+        final List<Object> sources = new ArrayList<>();
+        for (int i = 0; i < 0xFFFF; i++) {
+            sources.add(new FileMem().name("entry-" + i + ".txt").content(new byte[]{(byte) i}));
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThrows(ZipException.class,
+            () -> LocalZipParallel.write(sources, out, FileZip.ofParallel().parallel(4), null));
+    }
+
+    @Test
+    void parallelArchive_duplicateName_failsAndLeavesNoSpill() throws Exception {
+        final Set<String> before = this.spills();
+        final List<Object> sources = new ArrayList<>();
+        sources.add(Files.write(this.dir.resolve("first.log"), this.text(17 * 1024 * 1024)));
+        sources.add(new FileMem().name("first.log").content(new byte[]{1}));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThrows(ZipException.class,
+            () -> LocalZipParallel.write(sources, out, FileZip.ofParallel().parallel(4), null));
+        // 被放弃的任务在完成后自行释放临时文件
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (!before.containsAll(this.spills()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(before.containsAll(this.spills()));
+    }
+
+    private Set<String> spills() throws IOException {
+        final Set<String> spills = new LinkedHashSet<>();
+        try (final var stream = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+            stream.map(path -> path.getFileName().toString())
+                .filter(name -> name.startsWith("r2mo-zip-") && name.endsWith(".tmp"))
+                .forEach(spills::add);
+        }
+        return spills;
+    }
+
+    private String file(final String name, final byte[] content, final Map<String, byte[]> expected) throws IOException {
+        expected.put(name, content);
+        return Files.write(this.dir.resolve(name), content).toString();
+    }
+
+    private FileMem mem(final String name, final byte[] content, final Map<String, byte[]> expected) {
+        expected.put(name, content);
+        return new FileMem().name(name).content(content);
+    }
+
+    private int method(final String name) {
+        return FileZip.of().isStored(name) ? ZipEntry.STORED : ZipEntry.DEFLATED;
+    }
+
+    private byte[] text(final int size) {
+        final byte[] line = "r2mo parallel zip line\n".getBytes(StandardCharsets.UTF_8);
+        final byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = line[i % line.length];
+        }
+        return content;
+    }
+
+    private byte[] random(final int size) {
+        final byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        return content;
+    }
+
+    private long crc(final byte[] content) {
+        final CRC32 crc = new CRC32();
+        crc.update(content);
+        return crc.getValue();
+    }
+}
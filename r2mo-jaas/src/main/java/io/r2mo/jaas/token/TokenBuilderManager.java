@@ -16,7 +16,7 @@ import java.util.function.Supplier;
 public class TokenBuilderManager {
 
     private static final ConcurrentMap<TokenType, Supplier<TokenBuilder>> CC_SUPPLIER = new ConcurrentHashMap<>();
-    private static final Cc<String, TokenBuilder> CCT_BUILDER = Cc.openThread();
+    private static final Cc<String, TokenBuilder> CCT_BUILDER = Cc.openLocal();
     private static TokenBuilderManager INSTANCE;
 
     private TokenBuilderManager() {
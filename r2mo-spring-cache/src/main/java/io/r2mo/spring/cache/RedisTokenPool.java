@@ -3,15 +3,19 @@ package io.r2mo.spring.cache;
 import io.r2mo.base.io.transfer.token.TransferToken;
 import io.r2mo.base.io.transfer.token.TransferTokenPool;
 import io.r2mo.spi.SPI;
+import io.r2mo.spring.cache.config.ConfigCacheToken;
 import io.r2mo.typed.json.JBase;
 import io.r2mo.typed.json.JObject;
 import io.r2mo.typed.json.JUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -29,6 +33,8 @@ public class RedisTokenPool implements TransferTokenPool {
     private static final String TOKEN_EXPIRE_KEY_PREFIX = "r2mo:transfer:token:expire:";
     @Autowired
     private StringRedisTemplate redisTemplate;
+    @Autowired
+    private ConfigCacheToken config;
 
     @Override
     public boolean runSave(final TransferToken token, final long expiredAt) {
@@ -94,11 +100,10 @@ public class RedisTokenPool implements TransferTokenPool {
             final String tokenKey = TOKEN_KEY_PREFIX + token;
             final String expireKey = TOKEN_EXPIRE_KEY_PREFIX + token;
 
-            // 批量删除
-            final Boolean deleted1 = this.redisTemplate.delete(tokenKey);
-            final Boolean deleted2 = this.redisTemplate.delete(expireKey);
+            // 批量删除，一次往返
+            final Long deleted = this.redisTemplate.unlink(List.of(tokenKey, expireKey));
 
-            final boolean success = deleted1 || deleted2;
+            final boolean success = deleted != null && 0 < deleted;
             log.debug("[ R2MO ] 删除Redis令牌: tokenId={}, success={}", token, success);
             return success;
 
@@ -196,36 +201,15 @@ public class RedisTokenPool implements TransferTokenPool {
     }
 
     /**
-     * 清理所有过期令牌
+     * 清理所有过期令牌，令牌键与过期键写入时均带有 Redis 原生 TTL，此处只处理尚未被 Redis 淘汰的残留数据
      */
     private int cleanExpired() {
+        if (!this.config.isSweep()) {
+            log.debug("[ R2MO ] 已关闭过期扫描，令牌过期由 Redis TTL 负责");
+            return 0;
+        }
         try {
-            int cleanedCount = 0;
-            final long currentTime = System.currentTimeMillis();
-
-            // 扫描所有令牌键
-            final Set<String> keys = this.redisTemplate.keys(TOKEN_EXPIRE_KEY_PREFIX + "*");
-
-            for (final String expireKey : keys) {
-                try {
-                    final String expireValue = this.redisTemplate.opsForValue().get(expireKey);
-                    if (expireValue != null && !expireValue.isEmpty()) {
-                        final long expireTime = Long.parseLong(expireValue);
-                        if (currentTime > expireTime) {
-                            // 过期了，清理对应的令牌
-                            final String tokenId = expireKey.substring(TOKEN_EXPIRE_KEY_PREFIX.length());
-                            final String tokenKey = TOKEN_KEY_PREFIX + tokenId;
-
-                            this.redisTemplate.delete(expireKey);
-                            this.redisTemplate.delete(tokenKey);
-                            cleanedCount++;
-                        }
-                    }
-                } catch (final Exception e) {
-                    // 忽略单个清理错误
-                }
-            }
-
+            final int cleanedCount = this.sweep(true);
             log.info("[ R2MO ] 清理过期Redis令牌完成，清理数量: {}", cleanedCount);
             return cleanedCount;
 
@@ -240,30 +224,85 @@ public class RedisTokenPool implements TransferTokenPool {
      */
     private int clean() {
         try {
-            int cleanedCount = 0;
-
-            // 扫描所有令牌键
-            final Set<String> keys = this.redisTemplate.keys(TOKEN_EXPIRE_KEY_PREFIX + "*");
+            final int cleanedCount = this.sweep(false);
+            log.info("[ R2MO ] 清理所有Redis令牌完成，清理数量: {}", cleanedCount);
+            return cleanedCount;
 
-            for (final String expireKey : keys) {
-                try {
-                    final String tokenId = expireKey.substring(TOKEN_EXPIRE_KEY_PREFIX.length());
-                    final String tokenKey = TOKEN_KEY_PREFIX + tokenId;
+        } catch (final Exception e) {
+            log.error("[ R2MO ] 清理所有Redis令牌失败", e);
+            return 0;
+        }
+    }
 
-                    this.redisTemplate.delete(expireKey);
-                    this.redisTemplate.delete(tokenKey);
-                    cleanedCount++;
-                } catch (final Exception e) {
-                    // 忽略单个清理错误
+    /**
+     * 基于 SCAN 游标的增量扫描，替代阻塞的 KEYS，每批过期键使用一次 MGET 读取、一次 UNLINK 删除
+     *
+     * @param expiredOnly 是否只清理已过期的令牌
+     *
+     * @return 清理的令牌数量
+     */
+    private int sweep(final boolean expiredOnly) {
+        final int batchSize = Math.max(1, this.config.getBatch());
+        final ScanOptions options = ScanOptions.scanOptions()
+            .match(TOKEN_EXPIRE_KEY_PREFIX + "*")
+            .count(batchSize)
+            .build();
+        final long currentTime = System.currentTimeMillis();
+        final List<String> batch = new ArrayList<>(batchSize);
+        int cleanedCount = 0;
+        try (final Cursor<String> cursor = this.redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batchSize <= batch.size()) {
+                    cleanedCount += this.sweepBatch(batch, expiredOnly, currentTime);
+                    batch.clear();
                 }
             }
+        }
+        if (!batch.isEmpty()) {
+            cleanedCount += this.sweepBatch(batch, expiredOnly, currentTime);
+        }
+        return cleanedCount;
+    }
 
-            log.info("[ R2MO ] 清理所有Redis令牌完成，清理数量: {}", cleanedCount);
-            return cleanedCount;
-
+    private int sweepBatch(final List<String> expireKeys, final boolean expiredOnly, final long currentTime) {
+        try {
+            final List<String> values = expiredOnly ? this.redisTemplate.opsForValue().multiGet(expireKeys) : null;
+            final List<String> deleteKeys = new ArrayList<>(expireKeys.size() * 2);
+            for (int idx = 0; idx < expireKeys.size(); idx++) {
+                final String expireKey = expireKeys.get(idx);
+                if (expiredOnly && !this.isExpired(values, idx, currentTime)) {
+                    continue;
+                }
+                final String tokenId = expireKey.substring(TOKEN_EXPIRE_KEY_PREFIX.length());
+                deleteKeys.add(expireKey);
+                deleteKeys.add(TOKEN_KEY_PREFIX + tokenId);
+            }
+            if (deleteKeys.isEmpty()) {
+                return 0;
+            }
+            this.redisTemplate.unlink(deleteKeys);
+            return deleteKeys.size() / 2;
         } catch (final Exception e) {
-            log.error("[ R2MO ] 清理所有Redis令牌失败", e);
+            // 单批失败不影响后续批次
+            log.warn("[ R2MO ] 清理Redis令牌批次失败，批次大小: {}", expireKeys.size(), e);
             return 0;
         }
     }
+
+    private boolean isExpired(final List<String> values, final int idx, final long currentTime) {
+        if (values == null || values.size() <= idx) {
+            return false;
+        }
+        final String expireValue = values.get(idx);
+        // 值为空说明键已被 Redis TTL 淘汰
+        if (expireValue == null || expireValue.isEmpty()) {
+            return false;
+        }
+        try {
+            return currentTime > Long.parseLong(expireValue);
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package io.r2mo.spring.cache.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.Serializable;
+
+/**
+ * 传输令牌池（Redis）配置
+ * <pre>
+ *   cache:
+ *     token:
+ *       sweep: true      // false 时完全依赖 Redis 原生 TTL 过期，不再执行过期扫描
+ *       batch: 500       // SCAN 每轮的 COUNT 以及 MGET / UNLINK 的批量大小
+ * </pre>
+ *
+ * @author lang : 2026-10-18
+ */
+@Data
+@ConfigurationProperties(prefix = "cache.token")
+@Configuration
+public class ConfigCacheToken implements Serializable {
+
+    private boolean sweep = true;
+    private int batch = 500;
+}
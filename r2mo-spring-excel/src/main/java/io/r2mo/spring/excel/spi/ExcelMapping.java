@@ -0,0 +1,114 @@
+package io.r2mo.spring.excel.spi;
+
+import cn.hutool.core.convert.Convert;
+import io.r2mo.typed.cc.Cc;
+import io.r2mo.typed.exception.web._400BadRequestException;
+import io.r2mo.typed.exception.web._501NotSupportException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 实体类与 Excel 列的映射，每个实体类只解析一次
+ * <pre>
+ *     1. 字段顺序：父类字段在前，子类字段在后，跳过 static / transient / 合成字段
+ *     2. 构造函数与字段在解析时统一 setAccessible，读写行数据时不再做反射查找
+ *     3. 单元格文本按字段泛型类型转换，空文本不赋值，保留实体默认值
+ * </pre>
+ *
+ * @author lang : 2026-10-18
+ */
+class ExcelMapping<T> {
+
+    private static final Cc<Class<?>, ExcelMapping<?>> CC_MAPPING = Cc.open();
+
+    private final Constructor<T> constructor;
+    private final Map<String, Field> fields = new LinkedHashMap<>();
+
+    private ExcelMapping(final Class<T> entityCls) {
+        try {
+            this.constructor = entityCls.getDeclaredConstructor();
+            this.constructor.setAccessible(true);
+        } catch (final NoSuchMethodException ex) {
+            throw new _501NotSupportException("[ R2MO ] 实体类缺少无参构造函数：" + entityCls.getName());
+        }
+        final List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> current = entityCls; Objects.nonNull(current) && Object.class != current;
+             current = current.getSuperclass()) {
+            hierarchy.add(0, current);
+        }
+        for (final Class<?> current : hierarchy) {
+            for (final Field field : current.getDeclaredFields()) {
+                final int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                field.setAccessible(true);
+                this.fields.put(field.getName(), field);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> ExcelMapping<T> of(final Class<T> entityCls) {
+        return (ExcelMapping<T>) CC_MAPPING.pick(() -> new ExcelMapping<>(entityCls), entityCls);
+    }
+
+    String[] fieldList() {
+        return this.fields.keySet().toArray(new String[0]);
+    }
+
+    boolean hasField(final String field) {
+        return this.fields.containsKey(field);
+    }
+
+    Type fieldType(final String field) {
+        final Field found = this.fields.get(field);
+        return Objects.isNull(found) ? String.class : found.getGenericType();
+    }
+
+    T newInstance() {
+        try {
+            return this.constructor.newInstance();
+        } catch (final ReflectiveOperationException ex) {
+            throw new _501NotSupportException("[ R2MO ] 实体类实例化失败：" + this.constructor.getDeclaringClass().getName());
+        }
+    }
+
+    void set(final T entity, final String field, final String text) {
+        final Field found = this.fields.get(field);
+        if (Objects.isNull(found) || Objects.isNull(text) || text.isEmpty()) {
+            return;
+        }
+        final Object value;
+        try {
+            value = Convert.convert(found.getGenericType(), text);
+        } catch (final RuntimeException ex) {
+            throw new _400BadRequestException("[ R2MO ] 字段 " + field + " 的值无法转换：" + text);
+        }
+        try {
+            found.set(entity, value);
+        } catch (final IllegalAccessException ex) {
+            throw new _501NotSupportException("[ R2MO ] 字段不可写入：" + field);
+        }
+    }
+
+    Object get(final T entity, final String field) {
+        final Field found = this.fields.get(field);
+        if (Objects.isNull(found)) {
+            return null;
+        }
+        try {
+            return found.get(entity);
+        } catch (final IllegalAccessException ex) {
+            throw new _501NotSupportException("[ R2MO ] 字段不可读取：" + field);
+        }
+    }
+}
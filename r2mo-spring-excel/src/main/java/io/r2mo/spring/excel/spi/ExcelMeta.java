@@ -1,26 +1,106 @@
 package io.r2mo.spring.excel.spi;
 
+import io.r2mo.spi.SPI;
 import io.r2mo.spring.common.webflow.attachment.MultipartMeta;
+import io.r2mo.typed.json.JObject;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
 
 /**
+ * Excel 导入导出配置
+ * <pre>
+ *     - fields：参与导入导出的字段（Collection 或逗号分隔的字符串），默认为实体类全部字段
+ *     - headers：字段 = 列标题，导出时写出标题，导入时按标题匹配列，默认使用字段名
+ *     - sheet：导入读取的工作表序号，默认 0
+ *     - window：导出时内存中保留的行数，超出部分刷写到临时文件，默认 100
+ * </pre>
+ *
  * @author lang : 2025-09-09
  */
 class ExcelMeta<T> implements MultipartMeta<T> {
 
+    static final String FIELDS = "fields";
+    static final String HEADERS = "headers";
+    static final String SHEET = "sheet";
+    static final String WINDOW = "window";
+
     private final Class<T> entityCls;
+    private final ExcelMapping<T> mapping;
+    private final JObject config = SPI.J();
 
     ExcelMeta(final Class<T> entityCls) {
         this.entityCls = entityCls;
+        this.mapping = ExcelMapping.of(entityCls);
     }
 
-
     @Override
     public Class<T> entityCls() {
-        return null;
+        return this.entityCls;
     }
 
     @Override
     public String[] fieldList() {
-        return new String[0];
+        final Object fields = this.config.get(FIELDS);
+        if (fields instanceof final Collection<?> collection && !collection.isEmpty()) {
+            return collection.stream().map(String::valueOf).filter(this.mapping::hasField).toArray(String[]::new);
+        }
+        if (fields instanceof final String literal && !literal.isBlank()) {
+            return Arrays.stream(literal.split(",")).map(String::trim).filter(this.mapping::hasField)
+                .toArray(String[]::new);
+        }
+        return this.mapping.fieldList();
+    }
+
+    @Override
+    public Type fieldType(final String field) {
+        return this.mapping.fieldType(field);
+    }
+
+    @Override
+    public JObject config() {
+        return this.config;
+    }
+
+    @Override
+    public MultipartMeta<T> configure(final String field, final Object value) {
+        if (Objects.nonNull(field) && Objects.nonNull(value)) {
+            this.config.put(field, value);
+        }
+        return this;
+    }
+
+    @Override
+    public MultipartMeta<T> configure(final Map<String, Object> map) {
+        if (Objects.nonNull(map)) {
+            map.forEach(this::configure);
+        }
+        return this;
+    }
+
+    String header(final String field) {
+        final Object headers = this.config.get(HEADERS);
+        if (headers instanceof final Map<?, ?> map && map.get(field) instanceof final String header) {
+            return header;
+        }
+        if (headers instanceof final JObject json) {
+            return json.getString(field, field);
+        }
+        return field;
+    }
+
+    int sheet() {
+        return Math.max(0, this.config.getInt(SHEET, 0));
+    }
+
+    int window() {
+        return Math.max(1, this.config.getInt(WINDOW, 100));
+    }
+
+    ExcelMapping<T> mapping() {
+        return this.mapping;
     }
 }
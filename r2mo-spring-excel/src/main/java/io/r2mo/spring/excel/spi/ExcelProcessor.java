@@ -1,10 +1,35 @@
 package io.r2mo.spring.excel.spi;
 
+import io.r2mo.spring.common.webflow.attachment.MultipartMeta;
 import io.r2mo.spring.common.webflow.attachment.MultipartProcessor;
+import io.r2mo.typed.exception.web._400BadRequestException;
+import io.r2mo.typed.exception.web._500ServerInternalException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
+ * Excel 导入导出
+ * <pre>
+ *     1. 导入：上传文件先落到临时文件，再由 {@link ExcelReader} 按 SAX 事件逐行读取，
+ *        {@link #toMany(MultipartFile, MultipartMeta, int, Consumer)} 按批次回调，不构造完整列表
+ *     2. 导出：{@link ExcelWriter} 滑动窗口写出，{@link #toBinary(List, MultipartMeta, OutputStream)} 直接写到输出流，
+ *        {@link #toBinary(List, MultipartMeta)} 写到临时文件，返回的输入流关闭时删除临时文件
+ * </pre>
+ *
  * @author lang : 2025-09-09
  */
+@Slf4j
 class ExcelProcessor<T> implements MultipartProcessor<T> {
 
     private final Class<T> entityCls;
@@ -12,4 +37,106 @@ class ExcelProcessor<T> implements MultipartProcessor<T> {
     ExcelProcessor(final Class<T> entityCls) {
         this.entityCls = entityCls;
     }
+
+    @Override
+    public T toOne(final MultipartFile file, final MultipartMeta<T> config) {
+        final List<T> found = new ArrayList<>(1);
+        this.read(file, config, 1, 1, found::addAll);
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    @Override
+    public List<T> toMany(final MultipartFile file, final MultipartMeta<T> config) {
+        final List<T> entities = new ArrayList<>();
+        this.read(file, config, 1024, 0, entities::addAll);
+        return entities;
+    }
+
+    @Override
+    public void toMany(final MultipartFile file, final MultipartMeta<T> config,
+                       final int batchSize, final Consumer<List<T>> consumer) {
+        this.read(file, config, batchSize, 0, consumer);
+    }
+
+    @Override
+    public InputStream toBinary(final List<T> entities, final MultipartMeta<T> config) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile("r2mo-excel-", ".xlsx");
+            try (final OutputStream out = Files.newOutputStream(temp)) {
+                this.toBinary(entities, config, out);
+            }
+            return Files.newInputStream(temp, StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (final IOException ex) {
+            this.delete(temp);
+            log.error("[ R2MO ] Excel 导出失败", ex);
+            throw new _500ServerInternalException("[ R2MO ] Excel 导出失败：" + ex.getMessage());
+        }
+    }
+
+    @Override
+    public long toBinary(final List<T> entities, final MultipartMeta<T> config, final OutputStream out) {
+        try (final ExcelWriter<T> writer = new ExcelWriter<>(this.meta(config))) {
+            writer.append(entities).finish(out);
+            log.info("[ R2MO ] Excel 导出完成，实体：{}，行数：{}", this.entityCls.getName(), writer.count());
+            return writer.count();
+        } catch (final IOException ex) {
+            log.error("[ R2MO ] Excel 导出失败", ex);
+            throw new _500ServerInternalException("[ R2MO ] Excel 导出失败：" + ex.getMessage());
+        }
+    }
+
+    @Override
+    public long toBinary(final Consumer<Consumer<List<T>>> producer, final MultipartMeta<T> config,
+                         final OutputStream out) {
+        try (final ExcelWriter<T> writer = new ExcelWriter<>(this.meta(config))) {
+            // 行数据按批次进入滑动窗口，工作簿在全部批次结束后一次写出
+            producer.accept(writer::append);
+            writer.finish(out);
+            log.info("[ R2MO ] Excel 流式导出完成，实体：{}，行数：{}", this.entityCls.getName(), writer.count());
+            return writer.count();
+        } catch (final IOException ex) {
+            log.error("[ R2MO ] Excel 导出失败", ex);
+            throw new _500ServerInternalException("[ R2MO ] Excel 导出失败：" + ex.getMessage());
+        }
+    }
+
+    private void read(final MultipartFile file, final MultipartMeta<T> config,
+                      final int batchSize, final long limit, final Consumer<List<T>> consumer) {
+        Objects.requireNonNull(file, "[ R2MO ] 上传文件不可为空！");
+        Path temp = null;
+        try {
+            // OPCPackage 基于文件打开时按需读取 ZIP 条目，基于流打开会把整个压缩包读入内存
+            temp = Files.createTempFile("r2mo-excel-", ".xlsx");
+            file.transferTo(temp);
+            new ExcelReader<>(this.meta(config)).read(temp, batchSize, limit, consumer);
+        } catch (final IOException ex) {
+            log.error("[ R2MO ] 上传文件读取失败", ex);
+            throw new _400BadRequestException("[ R2MO ] 上传文件读取失败：" + ex.getMessage());
+        } finally {
+            this.delete(temp);
+        }
+    }
+
+    private ExcelMeta<T> meta(final MultipartMeta<T> config) {
+        if (config instanceof final ExcelMeta<T> meta) {
+            return meta;
+        }
+        final ExcelMeta<T> meta = new ExcelMeta<>(this.entityCls);
+        if (Objects.nonNull(config)) {
+            meta.configure(config.config().toMap());
+        }
+        return meta;
+    }
+
+    private void delete(final Path temp) {
+        if (Objects.isNull(temp)) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (final IOException ex) {
+            log.warn("[ R2MO ] 临时文件删除失败: {}", temp, ex);
+        }
+    }
 }
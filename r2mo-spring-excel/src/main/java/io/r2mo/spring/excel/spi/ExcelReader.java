@@ -0,0 +1,190 @@
+package io.r2mo.spring.excel.spi;
+
+import io.r2mo.typed.exception.web._400BadRequestException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.ss.util.NumberToTextConverter;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Excel 流式读取，基于 {@link XSSFReader} 的 SAX 事件模型，不构造完整的 Workbook
+ * <pre>
+ *     1. 第一行为标题行，按 {@link ExcelMeta#header(String)} 或字段名匹配列，未匹配的列忽略
+ *     2. 之后每一行转换为实体，攒满 batchSize 后回调一次，内存占用只与批次大小有关
+ *     3. 数值单元格输出原始文本，日期格式的单元格输出 ISO 格式的日期时间，避免显示格式影响类型转换
+ * </pre>
+ *
+ * @author lang : 2026-10-18
+ */
+@Slf4j
+class ExcelReader<T> {
+
+    private final ExcelMeta<T> meta;
+
+    ExcelReader(final ExcelMeta<T> meta) {
+        this.meta = meta;
+    }
+
+    /**
+     * @param file      .xlsx 文件
+     * @param batchSize 每批实体数量
+     * @param limit     最多读取的行数，小于等于 0 表示不限制
+     * @param consumer  批次回调
+     *
+     * @return 读取的行数
+     */
+    long read(final Path file, final int batchSize, final long limit, final Consumer<List<T>> consumer) {
+        final Handler handler = new Handler(Math.max(1, batchSize), limit, consumer);
+        try (final OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            final XSSFReader reader = new XSSFReader(pkg);
+            final ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            final StylesTable styles = reader.getStylesTable();
+            final XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            final int sheet = this.meta.sheet();
+            int index = 0;
+            while (sheets.hasNext()) {
+                try (final InputStream stream = sheets.next()) {
+                    if (index++ != sheet) {
+                        continue;
+                    }
+                    final XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(new XSSFSheetXMLHandler(styles, null, strings, handler, new Formatter(), false));
+                    try {
+                        parser.parse(new InputSource(stream));
+                    } catch (final Stop ignored) {
+                        // 达到 limit 提前结束
+                    }
+                    handler.flush();
+                    log.info("[ R2MO ] Excel 读取完成，工作表：{}，行数：{}", sheets.getSheetName(), handler.count);
+                    return handler.count;
+                }
+            }
+        } catch (final RuntimeException ex) {
+            throw ex;
+        } catch (final Exception ex) {
+            log.error("[ R2MO ] Excel 读取失败", ex);
+            throw new _400BadRequestException("[ R2MO ] Excel 文件读取失败：" + ex.getMessage());
+        }
+        throw new _400BadRequestException("[ R2MO ] Excel 工作表不存在：" + this.meta.sheet());
+    }
+
+    private final class Handler implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final int batchSize;
+        private final long limit;
+        private final Consumer<List<T>> consumer;
+        private final Map<Integer, String> cells = new HashMap<>();
+        private List<T> buffer;
+        private String[] columns;
+        private int column;
+        private long count = 0;
+
+        private Handler(final int batchSize, final long limit, final Consumer<List<T>> consumer) {
+            this.batchSize = batchSize;
+            this.limit = limit;
+            this.consumer = consumer;
+            this.buffer = new ArrayList<>(batchSize);
+        }
+
+        @Override
+        public void startRow(final int rowNum) {
+            this.cells.clear();
+            this.column = -1;
+        }
+
+        @Override
+        public void cell(final String cellReference, final String formattedValue, final XSSFComment comment) {
+            this.column = Objects.isNull(cellReference) ? this.column + 1 : new CellReference(cellReference).getCol();
+            if (Objects.nonNull(formattedValue)) {
+                this.cells.put(this.column, formattedValue.trim());
+            }
+        }
+
+        @Override
+        public void endRow(final int rowNum) {
+            if (Objects.isNull(this.columns)) {
+                this.columns = this.header();
+                return;
+            }
+            if (this.cells.isEmpty()) {
+                return;
+            }
+            final ExcelMapping<T> mapping = ExcelReader.this.meta.mapping();
+            final T entity = mapping.newInstance();
+            this.cells.forEach((index, text) -> {
+                if (index < this.columns.length && Objects.nonNull(this.columns[index])) {
+                    mapping.set(entity, this.columns[index], text);
+                }
+            });
+            this.buffer.add(entity);
+            this.count++;
+            if (this.buffer.size() >= this.batchSize) {
+                this.flush();
+            }
+            if (0 < this.limit && this.count >= this.limit) {
+                throw new Stop();
+            }
+        }
+
+        private String[] header() {
+            final Map<String, String> titles = new HashMap<>();
+            for (final String field : ExcelReader.this.meta.fieldList()) {
+                titles.put(ExcelReader.this.meta.header(field), field);
+                titles.putIfAbsent(field, field);
+            }
+            final int width = this.cells.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1) + 1;
+            final String[] columns = new String[width];
+            this.cells.forEach((index, title) -> columns[index] = titles.get(title));
+            return columns;
+        }
+
+        private void flush() {
+            if (this.buffer.isEmpty()) {
+                return;
+            }
+            // 回调方可能持有批次引用，交出后重新分配
+            final List<T> batch = this.buffer;
+            this.buffer = new ArrayList<>(this.batchSize);
+            this.consumer.accept(batch);
+        }
+    }
+
+    /*
+     * 日期单元格输出 ISO 格式，其他数值输出原始文本（不带千分位等显示格式）
+     */
+    private static final class Formatter extends DataFormatter {
+        @Override
+        public String formatRawCellContents(final double value, final int formatIndex, final String formatString,
+                                            final boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value, use1904Windowing).toString();
+            }
+            return NumberToTextConverter.toText(value);
+        }
+    }
+
+    private static final class Stop extends RuntimeException {
+        private Stop() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package io.r2mo.spring.excel.spi;
+
+import io.r2mo.typed.exception.web._500ServerInternalException;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Excel 流式写出，基于 {@link SXSSFWorkbook} 的滑动窗口
+ * <pre>
+ *     1. 内存中只保留 {@link ExcelMeta#window()} 行，超出的行刷写到压缩的临时文件
+ *     2. 可多次 {@link #append(List)}，调用方按批次写入，不需要一次性准备全部数据
+ *     3. 单个工作表超过 Excel 行数上限时自动新建工作表并重复写出标题
+ * </pre>
+ * 使用完毕后必须 {@link #close()}，释放临时文件。
+ *
+ * @author lang : 2026-10-18
+ */
+class ExcelWriter<T> implements Closeable {
+
+    private static final int MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+    private static final long SAFE_LONG = 1L << 53;
+
+    private final ExcelMeta<T> meta;
+    private final String[] fields;
+    private final SXSSFWorkbook workbook;
+    private final CellStyle dateStyle;
+    private final CellStyle timeStyle;
+    private Sheet sheet;
+    private int rowIndex;
+    private long count = 0;
+
+    ExcelWriter(final ExcelMeta<T> meta) {
+        this.meta = meta;
+        this.fields = meta.fieldList();
+        this.workbook = new SXSSFWorkbook(meta.window());
+        this.workbook.setCompressTempFiles(true);
+        final short dateFormat = this.workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd");
+        final short timeFormat = this.workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss");
+        this.dateStyle = this.workbook.createCellStyle();
+        this.dateStyle.setDataFormat(dateFormat);
+        this.timeStyle = this.workbook.createCellStyle();
+        this.timeStyle.setDataFormat(timeFormat);
+        this.nextSheet();
+    }
+
+    ExcelWriter<T> append(final List<T> entities) {
+        if (Objects.isNull(entities)) {
+            return this;
+        }
+        final ExcelMapping<T> mapping = this.meta.mapping();
+        for (final T entity : entities) {
+            if (MAX_ROWS <= this.rowIndex) {
+                this.nextSheet();
+            }
+            final Row row = this.sheet.createRow(this.rowIndex++);
+            for (int index = 0; index < this.fields.length; index++) {
+                this.write(row.createCell(index), mapping.get(entity, this.fields[index]));
+            }
+            this.count++;
+        }
+        return this;
+    }
+
+    long count() {
+        return this.count;
+    }
+
+    void finish(final OutputStream out) throws IOException {
+        this.workbook.write(out);
+        out.flush();
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.workbook.close();
+        } catch (final IOException ex) {
+            throw new _500ServerInternalException("[ R2MO ] Excel 临时文件释放失败：" + ex.getMessage());
+        }
+    }
+
+    private void nextSheet() {
+        this.sheet = this.workbook.createSheet();
+        final Row header = this.sheet.createRow(0);
+        for (int index = 0; index < this.fields.length; index++) {
+            header.createCell(index).setCellValue(this.meta.header(this.fields[index]));
+        }
+        this.rowIndex = 1;
+    }
+
+    private void write(final Cell cell, final Object value) {
+        if (Objects.isNull(value)) {
+            return;
+        }
+        if (value instanceof final Long number && SAFE_LONG < Math.abs(number)) {
+            // 超出 double 精度的长整型（如雪花 ID）按文本写出
+            cell.setCellValue(String.valueOf(number));
+        } else if (value instanceof final Number number) {
+            cell.setCellValue(number.doubleValue());
+        } else if (value instanceof final Boolean bool) {
+            cell.setCellValue(bool);
+        } else if (value instanceof final LocalDateTime time) {
+            cell.setCellValue(time);
+            cell.setCellStyle(this.timeStyle);
+        } else if (value instanceof final LocalDate date) {
+            cell.setCellValue(date);
+            cell.setCellStyle(this.dateStyle);
+        } else if (value instanceof final Date date) {
+            cell.setCellValue(date);
+            cell.setCellStyle(this.timeStyle);
+        } else {
+            cell.setCellValue(String.valueOf(value));
+        }
+    }
+}
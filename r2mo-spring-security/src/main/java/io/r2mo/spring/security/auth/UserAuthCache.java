@@ -35,7 +35,7 @@ import java.util.UUID;
 @Slf4j
 @SPID
 public class UserAuthCache implements UserCache {
-    private static final Cc<String, CacheAtSecurity> CC_FACTORY = Cc.openThread();
+    private static final Cc<String, CacheAtSecurity> CC_FACTORY = Cc.openLocal();
 
     private CacheAtSecurity factory() {
         return CC_FACTORY.pick(() -> {
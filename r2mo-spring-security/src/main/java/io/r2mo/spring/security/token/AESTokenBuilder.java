@@ -24,10 +24,12 @@ public class AESTokenBuilder extends TokenBuilderBase {
 
     @Override
     public Akka<String> accessOf(final String token) {
-        if (!this.generator.tokenValidate(token)) {
+        // 单次解析，校验与提取 subject 共用同一份 claims
+        final AESTokenClaims claims = this.generator.parse(token);
+        if (claims == null || claims.isExpired()) {
             return AkkaOf.of();
         }
-        return AkkaOf.of(this.generator.tokenSubject(token));
+        return AkkaOf.of(claims.subject());
     }
 
     @Override
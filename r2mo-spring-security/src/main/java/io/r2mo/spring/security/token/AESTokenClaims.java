@@ -0,0 +1,26 @@
+package io.r2mo.spring.security.token;
+
+import java.util.Map;
+
+/**
+ * Parsed AES Token Payload
+ * <p>
+ * Result of a single decrypt + JSON parse in {@link AESTokenGenerator#parse(String)}, so that
+ * validation, subject and extended data can be read from one object instead of decrypting the token repeatedly.
+ *
+ * @param subject   token subject (user identifier)
+ * @param expiredAt expiration timestamp in ms, -1 when absent
+ * @param data      extended data, may be null
+ *
+ * @author lang
+ */
+public record AESTokenClaims(String subject, long expiredAt, Map<String, Object> data) {
+
+    public boolean isExpired() {
+        return this.isExpired(System.currentTimeMillis());
+    }
+
+    public boolean isExpired(final long nowMs) {
+        return this.expiredAt < 0 || nowMs > this.expiredAt;
+    }
+}
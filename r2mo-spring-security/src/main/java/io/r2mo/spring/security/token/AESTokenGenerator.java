@@ -20,6 +20,8 @@ import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * AES Symmetric Encryption Token Generator (HED Static Implementation)
@@ -29,6 +31,7 @@ import java.util.Objects;
  * 2. Implements AES-256 (GCM mode) via {@link LicSym.AlgLicenseAes#AES_256}.
  * 3. Uses {@link ConfigSecurityBasic} for silent configuration.
  * 4. Manages Key Derivation (String -> SecretKey) and Base64 encoding manually to adapt to HED API.
+ * 5. Decrypts each token once via {@link #parse(String)}; derived key and parsed claims are cached.
  *
  * @author lang
  */
@@ -45,12 +48,20 @@ public class AESTokenGenerator {
     private static final String NAME_ADDON_DATA = "ext";
     // Algorithm Spec: AES-256 (Corresponds to GCM mode in HED implementation)
     private static final LicSym.AlgLicenseAes AES_SPEC = LicSym.AlgLicenseAes.AES_256;
+    // Upper bound of cached token claims
+    private static final int CLAIMS_CAPACITY = 10_000;
 
     // ================== Dependencies ==================
 
     @Autowired
     private ConfigSecurity configSecurity;
 
+    // ================== Caches ==================
+
+    // token -> claims, entries live until the token itself expires
+    private final ConcurrentMap<String, AESTokenClaims> claimsCache = new ConcurrentHashMap<>();
+    private volatile DerivedKey derivedKey;
+
     private ConfigSecurityBasic config() {
         return this.configSecurity.getBasic();
     }
@@ -78,9 +89,9 @@ public class AESTokenGenerator {
             final JObject jsonObj = SPI.J().put(payload);
             final byte[] rawBytes = jsonObj.encode().getBytes(StandardCharsets.UTF_8);
 
-            // 4. Derive Key (String -> SecretKey)
+            // 4. Derive Key (String -> SecretKey), cached until the configured secret changes
             // HED requires a SecretKey object, so we must convert the config string
-            final SecretKey key = this.deriveSecretKey(this.config().getAesSecret());
+            final SecretKey key = this.secretKey();
 
             // 5. HED Encrypt (byte[] -> byte[])
             // Calls HEDBase.encrypt(byte[], SecretKey, AlgLicenseSpec)
@@ -98,57 +109,65 @@ public class AESTokenGenerator {
     }
 
     /**
-     * Validate Token
+     * Parse Token (decrypt once)
+     * <p>
+     * Returns the cached claims when the token has been parsed before and is not yet expired, otherwise
+     * decrypts and parses the token once and caches the result until its own expiration.
+     *
+     * @param token raw token with {@link #TOKEN_PREFIX}
+     *
+     * @return parsed claims, or null when the token is malformed or cannot be decrypted (expiration is NOT checked here)
      */
-    public boolean tokenValidate(final String token) {
+    public AESTokenClaims parse(final String token) {
         if (this.isValidFormat(token)) {
-            return false;
+            return null;
         }
-        try {
-            final Map<String, Object> payload = this.decryptTokenToMap(token);
-            if (payload == null) {
-                return false;
+        final SecretKey key = this.secretKey();
+        final long now = System.currentTimeMillis();
+        final AESTokenClaims cached = this.claimsCache.get(token);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
             }
-            // Check Expiration
-            final Object expObj = payload.get(NAME_EXPIRE);
-            if (expObj instanceof Number) {
-                return System.currentTimeMillis() <= ((Number) expObj).longValue();
+            this.claimsCache.remove(token, cached);
+        }
+        try {
+            final AESTokenClaims claims = this.decryptToken(token, key);
+            // Only unexpired tokens are worth caching; invalid tokens are never cached
+            if (!claims.isExpired(now)) {
+                this.cacheClaims(token, claims, now);
             }
-            return false;
+            return claims;
         } catch (final Exception e) {
-            return false;
+            return null;
         }
     }
 
+    /**
+     * Validate Token
+     */
+    public boolean tokenValidate(final String token) {
+        final AESTokenClaims claims = this.parse(token);
+        return claims != null && !claims.isExpired();
+    }
+
     /**
      * Extract Subject
      */
     public String tokenSubject(final String token) {
-        if (this.isValidFormat(token)) {
-            return null;
-        }
-        try {
-            final Map<String, Object> payload = this.decryptTokenToMap(token);
-            return payload == null ? null : (String) payload.get(NAME_SUBJECT);
-        } catch (final Exception e) {
-            return null;
-        }
+        final AESTokenClaims claims = this.parse(token);
+        return claims == null ? null : claims.subject();
     }
 
     /**
      * Extract Extended Data
      */
-    @SuppressWarnings("unchecked")
     public Map<String, Object> tokenData(final String token) {
         if (this.isValidFormat(token)) {
             return Map.of();
         }
-        try {
-            final Map<String, Object> payload = this.decryptTokenToMap(token);
-            return payload == null ? null : (Map<String, Object>) payload.get(NAME_ADDON_DATA);
-        } catch (final Exception e) {
-            return null;
-        }
+        final AESTokenClaims claims = this.parse(token);
+        return claims == null ? null : claims.data();
     }
 
     // ================== Private Helper Methods ==================
@@ -159,24 +178,58 @@ public class AESTokenGenerator {
             || !token.startsWith(TOKEN_PREFIX);
     }
 
-    private Map<String, Object> decryptTokenToMap(final String rawToken) throws Exception {
+    @SuppressWarnings("unchecked")
+    private AESTokenClaims decryptToken(final String rawToken, final SecretKey key) throws Exception {
         // 1. Remove Prefix
         final String base64Str = rawToken.substring(TOKEN_PREFIX.length());
 
         // 2. Decode (URL Safe Base64 String -> byte[])
         final byte[] encryptedBytes = Base64.getUrlDecoder().decode(base64Str);
 
-        // 3. Derive Key
-        final SecretKey key = this.deriveSecretKey(this.config().getAesSecret());
-
-        // 4. HED Decrypt (byte[] -> byte[])
+        // 3. HED Decrypt (byte[] -> byte[])
         // Calls HEDBase.decrypt(byte[], SecretKey, AlgLicenseSpec)
         final byte[] plainBytes = HED.decrypt(encryptedBytes, key, AES_SPEC);
 
-        // 5. Deserialize
+        // 4. Deserialize
         final String jsonPayload = new String(plainBytes, StandardCharsets.UTF_8);
         final JObject parsed = JBase.parse(jsonPayload);
-        return parsed.toMap();
+        final Map<String, Object> payload = parsed.toMap();
+
+        final Object subObj = payload.get(NAME_SUBJECT);
+        final Object expObj = payload.get(NAME_EXPIRE);
+        final Object extObj = payload.get(NAME_ADDON_DATA);
+        return new AESTokenClaims(
+            subObj instanceof String ? (String) subObj : null,
+            expObj instanceof Number ? ((Number) expObj).longValue() : -1L,
+            extObj instanceof Map ? (Map<String, Object>) extObj : null
+        );
+    }
+
+    private void cacheClaims(final String token, final AESTokenClaims claims, final long now) {
+        if (CLAIMS_CAPACITY <= this.claimsCache.size()) {
+            // Bounded: drop expired entries first, reset when still full
+            this.claimsCache.values().removeIf(item -> item.isExpired(now));
+            if (CLAIMS_CAPACITY <= this.claimsCache.size()) {
+                this.claimsCache.clear();
+            }
+        }
+        this.claimsCache.put(token, claims);
+    }
+
+    /**
+     * Cached SecretKey, derived again only when the configured secret changes (e.g. @RefreshScope refresh),
+     * in which case all cached claims are dropped as well.
+     */
+    private SecretKey secretKey() {
+        final String secret = this.config().getAesSecret();
+        final DerivedKey derived = this.derivedKey;
+        if (derived != null && derived.secret().equals(secret)) {
+            return derived.key();
+        }
+        final DerivedKey refreshed = new DerivedKey(secret, this.deriveSecretKey(secret));
+        this.derivedKey = refreshed;
+        this.claimsCache.clear();
+        return refreshed.key();
     }
 
     /**
@@ -192,4 +245,7 @@ public class AESTokenGenerator {
             throw new RuntimeException("Failed to derive AES key", e);
         }
     }
-}
\ No newline at end of file
+
+    private record DerivedKey(String secret, SecretKey key) {
+    }
+}
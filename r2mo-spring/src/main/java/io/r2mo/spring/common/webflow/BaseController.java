@@ -1,7 +1,8 @@
 package io.r2mo.spring.common.webflow;
 
-import cn.hutool.core.io.IoUtil;
+import io.r2mo.base.io.HProgressor;
 import io.r2mo.function.Fn;
+import io.r2mo.spi.SPI;
 import io.r2mo.spring.common.webflow.attachment.MultipartProcessor;
 import io.r2mo.typed.common.Pagination;
 import io.r2mo.typed.json.JObject;
@@ -14,7 +15,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.InputStream;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -87,6 +87,33 @@ public abstract class BaseController<
         return R.ok(ActState.SUCCESS == executed.state());
     }
 
+    public R<JObject> uploadBatch(final MultipartFile file, final JObject config) {
+        return this.uploadBatch(file, config, null);
+    }
+
+    /**
+     * 流水线导入：分批解析，工作线程中执行 {@link #uploadPrepare(List)} 与 saveBatch，解析与写入重叠执行
+     * <pre>
+     *     - config.batch：每批实体数量，默认 1000
+     *     - config.parallel：并发写入的批次数量，默认 2
+     * </pre>
+     * 每个批次独立写入，返回结果中包含成功 / 失败数量以及失败批次明细（chunks）。
+     */
+    public R<JObject> uploadBatch(final MultipartFile file, final JObject config, final HProgressor progress) {
+        final JObject configJ = Objects.isNull(config) ? SPI.J() : config;
+        final MultipartProcessor<T> serviceAttachment = this.multipartProcessor();
+        final JObject report = new PreRequestImport<>(this.service(), this::uploadPrepare, configJ)
+            .execute(serviceAttachment, file, this.multipartMeta(configJ, true), progress);
+        return R.ok(report);
+    }
+
+    /**
+     * 流水线导入中每个批次写入前的校验 / 转换，运行在工作线程中，返回 null 或空列表时跳过该批次
+     */
+    protected List<T> uploadPrepare(final List<T> batch) {
+        return batch;
+    }
+
     @SuppressWarnings("all")
     public void downloadBy(final JObject criteria) {
         Objects.requireNonNull(criteria, "[ R2MO ] 请求对象不能为空！");
@@ -109,13 +136,45 @@ public abstract class BaseController<
 
         final JObject config = criteria.getJObject("config");
         final MultipartProcessor<T> serviceAttachment = this.multipartProcessor();
-        final InputStream binary = serviceAttachment.toBinary(executed.data(),
-            this.multipartMeta(config, false));
 
         // 特殊参数
         final String filename = config.getString("filename", UUID.randomUUID().toString());
         response.setHeader("Content-Disposition", "attachment;filename=" + filename);
-        Fn.jvmAt(() -> IoUtil.copy(binary, response.getOutputStream()));
+        // 直接写到响应流，由处理器负责释放中间产物（临时文件等）
+        Fn.jvmAt(() -> serviceAttachment.toBinary(executed.data(),
+            this.multipartMeta(config, false), response.getOutputStream()));
+    }
+
+    /**
+     * 流式导出：游标分批读取，边读边写到响应流，不构造完整结果列表
+     * <pre>
+     *     - config.format：csv（默认）/ jsonl / xlsx，csv 与 jsonl 每批写完即输出；
+     *       xlsx 需在全部行读完后才写出首字节，数据量大时响应会长时间无输出，建议改用 csv
+     *     - config.batch：每批读取的行数，默认 1000
+     *     - config.limit：最大导出行数，默认 1000000，小于等于 0 表示不限制
+     *     - config.filename：下载文件名，默认为随机 UUID + 格式扩展名
+     * </pre>
+     */
+    public void downloadStream(final JObject criteria) {
+        Objects.requireNonNull(criteria, "[ R2MO ] 请求对象不能为空！");
+        final JObject config = Objects.isNull(criteria.getJObject("config")) ? SPI.J() : criteria.getJObject("config");
+        final JObject condition = SPI.J().put(criteria.toMap()).remove("config");
+
+        final HttpServletResponse response = this.createResponse().response();
+        if (Objects.isNull(response)) {
+            log.error("[ R2MO ] 当前响应对象不可用，无法导出数据！");
+            return;
+        }
+
+        // 写出响应前检查格式与数据量，超限时直接返回错误
+        final PostResponseExport<T> export = new PostResponseExport<>(this.service(), config);
+        export.ensure(condition);
+
+        response.setContentType(export.contentType());
+        final String filename = config.getString("filename", UUID.randomUUID() + "." + export.format());
+        response.setHeader("Content-Disposition", "attachment;filename=" + filename);
+        Fn.jvmAt(() -> export.execute(condition, this.multipartProcessor(),
+            this.multipartMeta(config, false), response.getOutputStream()));
     }
 
     protected abstract RESP createResponse();
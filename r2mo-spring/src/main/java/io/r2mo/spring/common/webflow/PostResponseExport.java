@@ -0,0 +1,197 @@
+package io.r2mo.spring.common.webflow;
+
+import io.r2mo.spi.SPI;
+import io.r2mo.spring.common.webflow.attachment.MultipartMeta;
+import io.r2mo.spring.common.webflow.attachment.MultipartProcessor;
+import io.r2mo.typed.exception.web._400BadRequestException;
+import io.r2mo.typed.json.JObject;
+import io.r2mo.typed.service.ActOperation;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * 流式导出
+ * <pre>
+ *     1. 数据来源：{@link ActOperation#findBatch(JObject, int, Consumer)} 游标分批读取，内存中只保留一个批次
+ *     2. 写出格式：
+ *        - csv（默认）/ jsonl：每个批次写完立即 flush，首字节时间与总行数无关
+ *        - xlsx：交给 {@link MultipartProcessor}，滑动窗口工作簿只限制内存，xlsx 是压缩包格式，
+ *          全部行读完后才开始写出，首字节时间随行数增长，大数据量时客户端可能先于首字节超时
+ *     3. 背压：写出在读取线程中同步执行，客户端读取缓慢时输出流阻塞，游标随之暂停
+ *     4. 行数保护：导出前按 count 检查，读取中超过 limit 行时中止游标，已写出的数据保持完整
+ *     5. csv 公式注入：以 = + - @ 制表符、回车开头的单元格（数字除外）前补单引号，避免被表格软件当作公式执行
+ * </pre>
+ *
+ * @author lang : 2026-10-18
+ */
+@Slf4j
+class PostResponseExport<T> {
+
+    static final String FORMAT = "format";
+    static final String BATCH = "batch";
+    static final String LIMIT = "limit";
+
+    static final String FORMAT_XLSX = "xlsx";
+    static final String FORMAT_CSV = "csv";
+    static final String FORMAT_JSONL = "jsonl";
+
+    private static final Pattern NUMBER = Pattern.compile("[+-]?\\d+(\\.\\d+)?([eE][+-]?\\d+)?");
+
+    private final ActOperation<T> service;
+    private final String format;
+    private final int batchSize;
+    private final long limit;
+    private long count = 0;
+
+    PostResponseExport(final ActOperation<T> service, final JObject config) {
+        this.service = Objects.requireNonNull(service, "[ R2MO ] 当前 Controller 未提供 service，无法导出！");
+        this.format = config.getString(FORMAT, FORMAT_CSV).toLowerCase(Locale.ROOT);
+        this.batchSize = Math.max(1, config.getInt(BATCH, 1000));
+        this.limit = config.getLong(LIMIT, 1_000_000L);
+        if (!FORMAT_XLSX.equals(this.format) && !FORMAT_CSV.equals(this.format) && !FORMAT_JSONL.equals(this.format)) {
+            throw new _400BadRequestException("[ R2MO ] 不支持的导出格式：" + this.format);
+        }
+    }
+
+    String format() {
+        return this.format;
+    }
+
+    String contentType() {
+        return switch (this.format) {
+            case FORMAT_CSV -> "text/csv; charset=UTF-8";
+            case FORMAT_JSONL -> "application/x-ndjson; charset=UTF-8";
+            default -> "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+        };
+    }
+
+    /**
+     * 导出前检查数据量，响应尚未写出时超限可以直接返回错误
+     */
+    void ensure(final JObject criteria) {
+        if (0 >= this.limit) {
+            return;
+        }
+        final Long total = this.service.count(criteria).data();
+        if (Objects.nonNull(total) && this.limit < total) {
+            throw new _400BadRequestException("[ R2MO ] 导出数据量 " + total + " 超过上限 " + this.limit + "，请缩小查询范围！");
+        }
+    }
+
+    long execute(final JObject criteria, final MultipartProcessor<T> processor,
+                 final MultipartMeta<T> meta, final OutputStream out) {
+        // 达到 limit 时在生产者内部中止游标，写出方照常收尾（xlsx 需要写出完整工作簿）
+        final Consumer<Consumer<List<T>>> producer = consumer -> {
+            try {
+                this.service.findBatch(criteria, this.batchSize, this.guard(consumer));
+            } catch (final Stop ignored) {
+                log.warn("[ R2MO ] 导出行数达到上限 {}，剩余数据不再导出", this.limit);
+            }
+        };
+        if (FORMAT_XLSX.equals(this.format)) {
+            processor.toBinary(producer, meta, out);
+        } else {
+            this.text(producer, meta, out);
+        }
+        log.info("[ R2MO ] 流式导出完成，格式：{}，行数：{}", this.format, this.count);
+        return this.count;
+    }
+
+    private void text(final Consumer<Consumer<List<T>>> producer, final MultipartMeta<T> meta, final OutputStream out) {
+        final String[] fields = meta.fieldList();
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try {
+            if (FORMAT_CSV.equals(this.format)) {
+                this.line(writer, fields);
+            }
+            producer.accept(batch -> {
+                try {
+                    for (final T entity : batch) {
+                        final JObject json = SPI.V_UTIL.serializeJson(entity);
+                        if (FORMAT_CSV.equals(this.format)) {
+                            final String[] values = new String[fields.length];
+                            for (int index = 0; index < fields.length; index++) {
+                                final Object value = json.get(fields[index]);
+                                values[index] = Objects.isNull(value) ? "" : String.valueOf(value);
+                            }
+                            this.line(writer, values);
+                        } else {
+                            writer.write(json.encode());
+                            writer.write('\n');
+                        }
+                    }
+                    // 每个批次写完立即输出
+                    writer.flush();
+                } catch (final IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            writer.flush();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void line(final Writer writer, final String[] values) throws IOException {
+        for (int index = 0; index < values.length; index++) {
+            if (0 < index) {
+                writer.write(',');
+            }
+            writer.write(escape(values[index]));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escape(final String raw) {
+        final String value = formula(raw) ? '\'' + raw : raw;
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static boolean formula(final String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        final char first = value.charAt(0);
+        // 负数、带符号的数字保持原样
+        if (('-' == first || '+' == first) && NUMBER.matcher(value).matches()) {
+            return false;
+        }
+        return '=' == first || '+' == first || '-' == first || '@' == first || '\t' == first || '\r' == first;
+    }
+
+    private Consumer<List<T>> guard(final Consumer<List<T>> consumer) {
+        return batch -> {
+            if (0 < this.limit && this.limit <= this.count) {
+                throw new Stop();
+            }
+            final List<T> accepted = (0 < this.limit && this.limit < this.count + batch.size())
+                ? batch.subList(0, (int) (this.limit - this.count)) : batch;
+            consumer.accept(accepted);
+            this.count += accepted.size();
+            if (accepted.size() < batch.size()) {
+                throw new Stop();
+            }
+        };
+    }
+
+    private static final class Stop extends RuntimeException {
+        private Stop() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package io.r2mo.spring.common.webflow;
+
+import io.r2mo.base.io.HProgressor;
+import io.r2mo.spi.SPI;
+import io.r2mo.spring.common.webflow.attachment.MultipartMeta;
+import io.r2mo.spring.common.webflow.attachment.MultipartProcessor;
+import io.r2mo.typed.json.JArray;
+import io.r2mo.typed.json.JObject;
+import io.r2mo.typed.service.ActOperation;
+import io.r2mo.typed.service.ActResponse;
+import io.r2mo.typed.service.ActState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * 流水线导入
+ * <pre>
+ *     1. 解析：调用线程按 batch 分批解析上传文件（{@link MultipartProcessor#toMany(MultipartFile, MultipartMeta, int, java.util.function.Consumer)}）
+ *     2. 处理：每个批次提交到所有导入共享的守护线程池，先执行 prepare（校验 / 转换），再调用 saveBatch 写入
+ *     3. 背压：每次导入在途批次（执行中 + 排队中）最多 parallel 个，超出时解析线程等待，内存占用有上界，
+ *        parallel 超过共享线程池大小时实际并发以线程池为准
+ *     4. 每个批次独立写入（各自的事务），失败的批次记录在结果的 chunks 中，不影响其他批次；
+ *        failure 统计实际提交写入的行数，prepare 过滤掉的行数统计在 skipped 中，prepare 本身失败时整批计入 failure
+ *     5. 进度回调在锁内串行调用，上报的已写入行数单调递增，{@link HProgressor} 实现无需线程安全
+ * </pre>
+ * 工作线程会继承调用线程的 {@link RequestAttributes}，所有批次完成后才返回。
+ *
+ * @author lang : 2026-10-18
+ */
+@Slf4j
+class PreRequestImport<T> {
+
+    static final String BATCH = "batch";
+    static final String PARALLEL = "parallel";
+
+    // 所有导入共享的守护线程池，批次写入以数据库 IO 为主，线程数取 CPU 核数的两倍
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+        Math.max(4, 2 * Runtime.getRuntime().availableProcessors()), new Factory());
+
+    private final ActOperation<T> service;
+    private final UnaryOperator<List<T>> prepare;
+    private final int batchSize;
+    private final int parallel;
+    private final AtomicLong success = new AtomicLong();
+    private final AtomicLong failure = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final JArray chunks = SPI.A();
+    private final Object progressLock = new Object();
+
+    PreRequestImport(final ActOperation<T> service, final UnaryOperator<List<T>> prepare, final JObject config) {
+        this.service = Objects.requireNonNull(service, "[ R2MO ] 当前 Controller 未提供 service，无法导入！");
+        this.prepare = prepare;
+        this.batchSize = Math.max(1, config.getInt(BATCH, 1000));
+        this.parallel = Math.max(1, config.getInt(PARALLEL, 2));
+    }
+
+    JObject execute(final MultipartProcessor<T> processor, final MultipartFile file,
+                    final MultipartMeta<T> meta, final HProgressor progress) {
+        final int capacity = this.parallel;
+        final Semaphore permits = new Semaphore(capacity);
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        final AtomicInteger index = new AtomicInteger();
+        Exception error = null;
+        try {
+            processor.toMany(file, meta, this.batchSize, batch -> {
+                permits.acquireUninterruptibly();
+                final int chunk = index.getAndIncrement();
+                try {
+                    EXECUTOR.execute(() -> {
+                        try {
+                            this.write(chunk, batch, attributes, progress);
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                } catch (final RuntimeException ex) {
+                    permits.release();
+                    throw ex;
+                }
+            });
+        } catch (final Exception ex) {
+            // 解析失败时已提交的批次继续写入，结果中标记解析错误
+            log.error("[ R2MO ] 导入文件解析失败，已解析批次：{}", index.get(), ex);
+            error = ex;
+        } finally {
+            // 等待所有在途批次完成
+            permits.acquireUninterruptibly(capacity);
+        }
+
+        final JObject report = SPI.J();
+        report.put("chunk", index.get());
+        report.put("success", this.success.get());
+        report.put("failure", this.failure.get());
+        report.put("skipped", this.skipped.get());
+        report.put("chunks", this.chunks);
+        if (Objects.nonNull(error)) {
+            report.put("error", String.valueOf(error.getMessage()));
+        }
+        log.info("[ R2MO ] 导入完成，批次：{}，成功：{}，失败：{}，跳过：{}", index.get(),
+            this.success.get(), this.failure.get(), this.skipped.get());
+        if (Objects.nonNull(progress)) {
+            if (Objects.isNull(error)) {
+                progress.onComplete(this.success.get());
+            } else {
+                progress.onError(error);
+            }
+        }
+        return report;
+    }
+
+    private void write(final int chunk, final List<T> batch, final RequestAttributes attributes,
+                       final HProgressor progress) {
+        if (Objects.nonNull(attributes)) {
+            RequestContextHolder.setRequestAttributes(attributes);
+        }
+        // prepare 完成前出错时整批计入失败，之后只计实际提交的行
+        List<T> submitted = batch;
+        try {
+            final List<T> result = Objects.isNull(this.prepare) ? batch : this.prepare.apply(batch);
+            submitted = Objects.isNull(result) ? List.of() : result;
+            final int dropped = batch.size() - submitted.size();
+            if (0 < dropped) {
+                this.skipped.addAndGet(dropped);
+            }
+            if (submitted.isEmpty()) {
+                return;
+            }
+            final ActResponse<List<T>> executed = this.service.saveBatch(submitted);
+            if (ActState.SUCCESS == executed.state()) {
+                this.success.addAndGet(submitted.size());
+                this.progress(progress);
+            } else {
+                this.failed(chunk, submitted.size(), String.valueOf(executed.state()));
+            }
+        } catch (final Exception ex) {
+            log.error("[ R2MO ] 导入批次 {} 写入失败", chunk, ex);
+            this.failed(chunk, submitted.size(), String.valueOf(ex.getMessage()));
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    /*
+     * 串行化进度回调，锁内读取最新的成功行数，避免并发批次以乱序的数值回调
+     */
+    private void progress(final HProgressor progress) {
+        if (Objects.isNull(progress)) {
+            return;
+        }
+        synchronized (this.progressLock) {
+            progress.onProgress(this.success.get());
+        }
+    }
+
+    private void failed(final int chunk, final int size, final String message) {
+        this.failure.addAndGet(size);
+        final JObject failed = SPI.J();
+        failed.put("index", chunk);
+        failed.put("size", size);
+        failed.put("message", message);
+        synchronized (this.chunks) {
+            this.chunks.add(failed);
+        }
+    }
+
+    private static class Factory implements ThreadFactory {
+        private static final AtomicInteger INDEX = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "r2mo-import-" + INDEX.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package io.r2mo.spring.common.webflow.attachment;
 
+import io.r2mo.function.Fn;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * @author lang : 2025-09-04
@@ -18,7 +23,59 @@ public interface MultipartProcessor<T> {
         return List.of();
     }
 
+    /**
+     * 分批导入，每攒满 batchSize 个实体回调一次，流式实现不需要在内存中保留完整列表
+     *
+     * @param file      上传文件
+     * @param config    配置
+     * @param batchSize 批次大小
+     * @param consumer  批次回调
+     */
+    default void toMany(final MultipartFile file, final MultipartMeta<T> config,
+                        final int batchSize, final Consumer<List<T>> consumer) {
+        final List<T> entities = this.toMany(file, config);
+        final int size = Math.max(1, batchSize);
+        for (int start = 0; start < entities.size(); start += size) {
+            consumer.accept(new ArrayList<>(entities.subList(start, Math.min(entities.size(), start + size))));
+        }
+    }
+
     default InputStream toBinary(final List<T> entities, final MultipartMeta<T> config) {
         return null;
     }
+
+    /**
+     * 直接写出到输出流，输出流的生命周期由调用方负责
+     *
+     * @return 写出的实体数量
+     */
+    default long toBinary(final List<T> entities, final MultipartMeta<T> config, final OutputStream out) {
+        final InputStream binary = this.toBinary(entities, config);
+        if (Objects.isNull(binary)) {
+            return 0;
+        }
+        Fn.jvmAt(() -> {
+            try (binary) {
+                binary.transferTo(out);
+            }
+        });
+        return entities.size();
+    }
+
+    /**
+     * 分批写出，producer 负责把数据按批次推送给写出方（如游标读取），流式实现不需要在内存中保留完整列表；
+     * 默认实现收集全部批次后调用 {@link #toBinary(List, MultipartMeta, OutputStream)}
+     *
+     * @param producer 批次生产者，参数为写出方的批次回调
+     * @param config   配置
+     * @param out      输出流，生命周期由调用方负责
+     *
+     * @return 写出的实体数量
+     */
+    default long toBinary(final Consumer<Consumer<List<T>>> producer, final MultipartMeta<T> config,
+                          final OutputStream out) {
+        final List<T> entities = new ArrayList<>();
+        producer.accept(entities::addAll);
+        return this.toBinary(entities, config, out);
+    }
 }
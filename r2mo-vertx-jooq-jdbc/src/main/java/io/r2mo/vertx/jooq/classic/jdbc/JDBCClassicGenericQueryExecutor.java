@@ -39,6 +39,10 @@ public class JDBCClassicGenericQueryExecutor extends AbstractQueryExecutor imple
     }
 
     protected <X> Future<X> executeBlocking(final Handler<Promise<X>> blockingCodeHandler) {
+        if (JDBCVirtualExecutor.enabled()) {
+            return JDBCVirtualExecutor.execute((ContextInternal) this.vertx.getOrCreateContext(),
+                this.configuration(), blockingCodeHandler);
+        }
         final Promise<X> promise = new PromiseImpl<>((ContextInternal) this.vertx.getOrCreateContext());
         final Callable<X> callable = () -> {
             try {
@@ -0,0 +1,101 @@
+package io.r2mo.vertx.jooq.classic.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.impl.future.PromiseImpl;
+import io.vertx.core.internal.ContextInternal;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
+import org.jooq.impl.DataSourceConnectionProvider;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 虚拟线程执行模式（JDK 21），开启后 {@link JDBCClassicGenericQueryExecutor} 不再使用 vertx.executeBlocking 的 Worker 线程池
+ * <pre>
+ *     1. 每次 JDBC 调用在独立的虚拟线程中执行，并发不再受 Worker 线程池大小限制
+ *     2. 并发上限由信号量控制，许可数与连接池大小一致（HikariCP 读取 maximumPoolSize），
+ *        超出连接数的请求在虚拟线程中等待许可，不占用平台线程，也不会在连接池中排队超时
+ *     3. Promise 绑定调用方的 Vert.x Context，完成后的回调仍然回到原始 Context 中执行
+ * </pre>
+ * 默认关闭，应用启动时调用 {@link #enabled(boolean)} 开启，对所有 JDBC 查询执行器生效。
+ * <p>
+ * 虚拟线程需要 JDK 21，本模块因此以 release 21 编译；依赖本模块的 r2mo-vertx-jooq-generate 同样需要 JDK 21 运行，
+ * 这与 r2mo-dbe-jooq（release 21）原有的要求一致，并未抬高整条 jOOQ 依赖链的 JDK 下限。
+ *
+ * @author lang : 2026-10-18
+ */
+@Slf4j
+public final class JDBCVirtualExecutor {
+
+    // Hikari 默认 maximumPoolSize
+    private static final int PERMITS_DEFAULT = 10;
+    // 以 DataSource 对象本身为键，连接池被回收后对应的信号量随之释放
+    private static final Map<Object, Semaphore> PERMITS = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("r2mo-jdbc-", 0).factory()
+    );
+    private static volatile boolean enabled = false;
+
+    private JDBCVirtualExecutor() {
+    }
+
+    public static boolean enabled() {
+        return enabled;
+    }
+
+    public static void enabled(final boolean enabled) {
+        JDBCVirtualExecutor.enabled = enabled;
+        log.info("[ R2MO ] JDBC 虚拟线程执行模式：{}", enabled);
+    }
+
+    static <X> Future<X> execute(final ContextInternal context,
+                                 final Configuration configuration,
+                                 final Handler<Promise<X>> blockingCodeHandler) {
+        final Promise<X> promise = new PromiseImpl<>(context);
+        final Semaphore permit = permit(configuration);
+        EXECUTOR.execute(() -> {
+            try {
+                permit.acquire();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                promise.tryFail(ex);
+                return;
+            }
+            try {
+                blockingCodeHandler.handle(promise);
+                // 与 executeBlocking 的行为一致，处理器未完成 Promise 时以 null 结束
+                promise.tryComplete();
+            } catch (final Throwable ex) {
+                promise.tryFail(ex);
+            } finally {
+                permit.release();
+            }
+        });
+        return promise.future();
+    }
+
+    /*
+     * 同一个连接池共享一个信号量，许可数与连接池大小一致
+     */
+    private static Semaphore permit(final Configuration configuration) {
+        final ConnectionProvider provider = configuration.connectionProvider();
+        final Object source = (provider instanceof final DataSourceConnectionProvider dsProvider)
+            ? dsProvider.dataSource() : provider;
+        return PERMITS.computeIfAbsent(Objects.requireNonNull(source), key -> {
+            final int permits = (key instanceof final HikariDataSource hikari)
+                ? hikari.getMaximumPoolSize() : PERMITS_DEFAULT;
+            log.info("[ R2MO ] JDBC 虚拟线程并发上限：{}", permits);
+            return new Semaphore(Math.max(1, permits), true);
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package io.r2mo.vertx.jooq.classic.reactive;
+
+import io.r2mo.vertx.jooq.classic.ClassicQueryExecutor;
+import io.r2mo.vertx.jooq.shared.internal.QueryResult;
+import io.r2mo.vertx.jooq.shared.internal.reactive.AbstractReactiveQueryExecutor;
+import io.r2mo.vertx.jooq.shared.internal.reactive.ReactiveQueryResult;
+import io.vertx.core.Future;
+import io.vertx.sqlclient.SqlClient;
+import io.vertx.sqlclient.SqlResult;
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
+
+import java.util.function.Function;
+
+/**
+ * @author lang : 2026-10-18
+ */
+public class ReactiveClassicGenericQueryExecutor extends AbstractReactiveQueryExecutor implements ClassicQueryExecutor {
+
+    public ReactiveClassicGenericQueryExecutor(final Configuration configuration, final SqlClient delegate) {
+        super(configuration, delegate);
+    }
+
+    @Override
+    public Future<Integer> execute(final Function<DSLContext, ? extends Query> queryFunction) {
+        return this.executeQuery(this.createQuery(queryFunction)).map(SqlResult::rowCount);
+    }
+
+    @Override
+    public <R extends Record> Future<QueryResult> query(final Function<DSLContext, ? extends ResultQuery<R>> queryFunction) {
+        return this.executeQuery(this.createQuery(queryFunction)).map(ReactiveQueryResult::new);
+    }
+}
@@ -0,0 +1,73 @@
+package io.r2mo.vertx.jooq.classic.reactive;
+
+import io.r2mo.typed.exception.web._501NotSupportException;
+import io.r2mo.vertx.jooq.shared.internal.QueryExecutor;
+import io.vertx.core.Future;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.SqlClient;
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.InsertResultStep;
+import org.jooq.ResultQuery;
+import org.jooq.Table;
+import org.jooq.UpdatableRecord;
+import org.jooq.impl.DSL;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 与 {@code JDBCClassicQueryExecutor} 对应的响应式实现，{@link Row} 先映射为表对应的
+ * {@link UpdatableRecord}，再通过 into 转换为 POJO
+ *
+ * @author lang : 2026-10-18
+ */
+public class ReactiveClassicQueryExecutor<R extends UpdatableRecord<R>, P, T> extends ReactiveClassicGenericQueryExecutor implements QueryExecutor<R, T, Future<List<P>>, Future<P>, Future<Integer>, Future<T>> {
+
+    private final Class<P> daoType;
+    private final Table<R> table;
+
+    public ReactiveClassicQueryExecutor(final Configuration configuration, final SqlClient delegate,
+                                        final Class<P> daoType, final Table<R> table) {
+        super(configuration, delegate);
+        this.daoType = daoType;
+        this.table = table;
+    }
+
+    @Override
+    public Future<List<P>> findMany(final Function<DSLContext, ? extends ResultQuery<R>> queryFunction) {
+        return this.executeQuery(this.createQuery(queryFunction)).map(rows -> {
+            final List<P> pojos = new ArrayList<>(rows.size());
+            for (final Row row : rows) {
+                pojos.add(this.toRecord(row).into(this.daoType));
+            }
+            return pojos;
+        });
+    }
+
+    @Override
+    public Future<P> findOne(final Function<DSLContext, ? extends ResultQuery<R>> queryFunction) {
+        return this.executeQuery(this.createQuery(queryFunction)).map(rows -> {
+            final Iterator<Row> it = rows.iterator();
+            return it.hasNext() ? this.toRecord(it.next()).into(this.daoType) : null;
+        });
+    }
+
+    @Override
+    public Future<T> insertReturning(final Function<DSLContext, ? extends InsertResultStep<R>> queryFunction, final Function<Object, T> keyMapper) {
+        return this.executeQuery(this.createQuery(queryFunction)).map(rows -> {
+            final Iterator<Row> it = rows.iterator();
+            if (!it.hasNext()) {
+                // MySQL 不支持 RETURNING，响应式驱动无法通过 getGeneratedKeys 取回主键
+                throw new _501NotSupportException("[ R2MO ] 响应式模式的 insertReturning 仅支持带 RETURNING 的数据库：" + this.configuration().dialect());
+            }
+            return keyMapper.apply(this.toRecord(it.next()));
+        });
+    }
+
+    private R toRecord(final Row row) {
+        return this.toRecord(DSL.using(this.configuration()).newRecord(this.table), row);
+    }
+}
@@ -0,0 +1,75 @@
+package io.r2mo.vertx.jooq.classic.reactive;
+
+import io.r2mo.base.dbe.Database;
+import io.r2mo.typed.enums.DatabaseType;
+import io.r2mo.typed.exception.web._501NotSupportException;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnectOptions;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 响应式连接池，按 Database 的 options 选择是否启用
+ * <pre>
+ *     options:
+ *       reactive: true                 # 开启后异步 DAO 的查询执行器切换为响应式 SQL 客户端
+ *       reactive-pool-size: 16         # 响应式连接池大小，默认 {@link PoolOptions#DEFAULT_MAX_SIZE}
+ * </pre>
+ * 驱动通过 {@link SqlConnectOptions#fromUri(String)} 按协议发现，需要引入 vertx-pg-client 或 vertx-mysql-client。
+ *
+ * @author lang : 2026-10-18
+ */
+@Slf4j
+public final class ReactivePool {
+
+    public static final String OPTION_REACTIVE = "reactive";
+    public static final String OPTION_POOL_SIZE = "reactive-pool-size";
+    /*
+     * 按 Vertx 实例与 Database 实例（对象身份）缓存，Database 的 equals / hashCode 只比较连接地址，
+     * 同一地址但账号或 reactive-pool-size 不同的配置必须使用各自的连接池
+     */
+    private static final Map<Vertx, Map<Database, Pool>> POOLS = new IdentityHashMap<>();
+
+    private ReactivePool() {
+    }
+
+    public static boolean enabled(final Database database) {
+        if (Objects.isNull(database)) {
+            return false;
+        }
+        return Boolean.parseBoolean(String.valueOf(database.getOption(OPTION_REACTIVE, Boolean.FALSE)));
+    }
+
+    public static Pool of(final Vertx vertx, final Database database) {
+        Objects.requireNonNull(vertx);
+        Objects.requireNonNull(database);
+        synchronized (POOLS) {
+            return POOLS.computeIfAbsent(vertx, key -> new IdentityHashMap<>())
+                .computeIfAbsent(database, key -> create(vertx, key));
+        }
+    }
+
+    private static Pool create(final Vertx vertx, final Database database) {
+        final String uri = scheme(database.getType()) + "://"
+            + database.getHostname() + ":" + database.getPort() + "/" + database.getInstance();
+        final SqlConnectOptions options = SqlConnectOptions.fromUri(uri)
+            .setUser(database.getUsername())
+            .setPassword(database.getPasswordDecrypted());
+        final int size = (int) database.getLong(OPTION_POOL_SIZE, (long) PoolOptions.DEFAULT_MAX_SIZE);
+        log.info("[ R2MO ] ( Jooq ) 响应式连接池初始化：{}，大小：{}", uri, size);
+        return Pool.pool(vertx, options, new PoolOptions().setMaxSize(size));
+    }
+
+    private static String scheme(final DatabaseType type) {
+        return switch (type) {
+            case PGSQL, COCKROACHDB, YUGABYTEDB -> "postgresql";
+            case MYSQL_5, MYSQL_8, MYSQL_9, TIDB, MARIADB -> "mysql";
+            default -> throw new _501NotSupportException("[ R2MO ] 响应式模式仅支持 MySQL / PostgreSQL：" + type);
+        };
+    }
+}
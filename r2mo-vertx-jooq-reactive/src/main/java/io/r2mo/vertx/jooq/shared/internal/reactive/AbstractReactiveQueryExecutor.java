@@ -0,0 +1,171 @@
+package io.r2mo.vertx.jooq.shared.internal.reactive;
+
+import io.r2mo.vertx.jooq.shared.internal.AbstractQueryExecutor;
+import io.vertx.core.Future;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlClient;
+import io.vertx.sqlclient.Tuple;
+import org.jooq.Configuration;
+import org.jooq.Converter;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Param;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.VisitContext;
+import org.jooq.VisitListener;
+import org.jooq.conf.ParamType;
+import org.jooq.conf.Settings;
+import org.jooq.conf.SettingsTools;
+import org.jooq.conf.StatementType;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultVisitListener;
+import org.jooq.impl.DefaultVisitListenerProvider;
+import org.jooq.tools.Convert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 响应式执行器基类，jOOQ 只负责构造和渲染 SQL，执行交给 Vert.x 响应式 SQL 客户端，全程不占用 Worker 线程
+ * <pre>
+ *     1. 渲染：沿用 DAO 配置中的 Settings，MySQL 使用 ? 占位符，PostgreSQL 将 ? 按顺序替换为 $1, $2 ...，
+ *        绑定变量按渲染顺序（含重复参数）提取为 {@link Tuple}
+ *     2. 绑定：绑定变量先经过字段的 {@link Converter#to(Object)} 转换成数据库类型
+ *     3. 读取：{@link Row} 中的列值经过 {@link Converter#from(Object)} 转换后写入 jOOQ 的 {@link Record}，
+ *        与 JDBC 模式下 fetchInto 的映射结果保持一致
+ * </pre>
+ *
+ * @author lang : 2026-10-18
+ */
+public abstract class AbstractReactiveQueryExecutor extends AbstractQueryExecutor {
+
+    protected final SqlClient delegate;
+    private final DSLContext renderer;
+    private final boolean positional;
+
+    protected AbstractReactiveQueryExecutor(final Configuration configuration, final SqlClient delegate) {
+        super(configuration);
+        this.delegate = delegate;
+        this.renderer = DSL.using(configuration.dialect(), settings(configuration));
+        final SQLDialect family = configuration.dialect().family();
+        this.positional = SQLDialect.POSTGRES == family || SQLDialect.YUGABYTEDB == family;
+    }
+
+    /*
+     * 在 DAO 原有配置（Schema 映射、标识符引用、大小写等）的基础上只覆盖占位符相关设置，
+     * 保证与 JDBC 模式渲染出相同的 SQL
+     */
+    static Settings settings(final Configuration configuration) {
+        return SettingsTools.clone(configuration.settings())
+            .withStatementType(StatementType.PREPARED_STATEMENT)
+            .withParamType(ParamType.INDEXED);
+    }
+
+    /*
+     * PostgreSQL 的占位符为 $1, $2 ...：按 ? 渲染后逐个替换为序号，跳过字符串、引用标识符与注释中的 ?；
+     * 不使用 NAMED 参数渲染，命名参数会被渲染成 $name 且重复使用时共用同一个名称
+     */
+    static String positional(final String sql) {
+        final StringBuilder buffer = new StringBuilder(sql.length() + 16);
+        int index = 0;
+        char quote = 0;
+        for (int at = 0; at < sql.length(); at++) {
+            final char ch = sql.charAt(at);
+            if (0 != quote) {
+                buffer.append(ch);
+                if ('\n' == quote && '\n' == ch) {
+                    quote = 0;
+                } else if ('*' == quote && '*' == ch && at + 1 < sql.length() && '/' == sql.charAt(at + 1)) {
+                    buffer.append(sql.charAt(++at));
+                    quote = 0;
+                } else if (ch == quote && '\n' != quote && '*' != quote) {
+                    // 连续两个引号为转义，状态不变
+                    if (at + 1 < sql.length() && sql.charAt(at + 1) == quote) {
+                        buffer.append(sql.charAt(++at));
+                    } else {
+                        quote = 0;
+                    }
+                }
+                continue;
+            }
+            if ('?' == ch) {
+                buffer.append('$').append(++index);
+                continue;
+            }
+            buffer.append(ch);
+            if ('\'' == ch || '"' == ch) {
+                quote = ch;
+            } else if ('-' == ch && at + 1 < sql.length() && '-' == sql.charAt(at + 1)) {
+                quote = '\n';
+            } else if ('/' == ch && at + 1 < sql.length() && '*' == sql.charAt(at + 1)) {
+                buffer.append(sql.charAt(++at));
+                quote = '*';
+            }
+        }
+        return buffer.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <U> U fromDatabase(final Field<U> field, final Object value) {
+        final Converter<Object, U> converter = (Converter<Object, U>) field.getConverter();
+        return converter.from(Convert.convert(value, converter.fromType()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <U> Object toDatabase(final Param<U> param) {
+        final Converter<Object, U> converter = (Converter<Object, U>) param.getConverter();
+        return converter.to(param.getValue());
+    }
+
+    protected Future<RowSet<Row>> executeQuery(final Query query) {
+        return this.delegate.preparedQuery(this.render(query)).execute(this.toTuple(query));
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <R extends Record> R toRecord(final R record, final Row row) {
+        for (final Field<?> field : record.fields()) {
+            final int index = row.getColumnIndex(field.getName());
+            if (index < 0) {
+                continue;
+            }
+            record.set((Field<Object>) field, fromDatabase(field, row.getValue(index)));
+        }
+        record.changed(false);
+        return record;
+    }
+
+    String render(final Query query) {
+        final String sql = this.renderer.render(query);
+        return this.positional ? positional(sql) : sql;
+    }
+
+    /*
+     * 绑定值与 Param 按位置配对：extractBindValues 遍历查询时逐个访问非内联的 Param（同名参数重复出现时逐个访问），
+     * 通过 VisitListener 记录访问到的 Param，顺序与占位符一一对应，每个位置使用自身 Param 的 Converter。
+     * 不能按绑定值查找 Param：装箱的 Boolean / 小整数、枚举、字符串常量在不同参数中是同一个对象
+     */
+    Tuple toTuple(final Query query) {
+        final List<Param<?>> params = new ArrayList<>();
+        final VisitListener collector = new DefaultVisitListener() {
+            @Override
+            public void visitStart(final VisitContext context) {
+                if (context.queryPart() instanceof final Param<?> param && !param.isInline()) {
+                    params.add(param);
+                }
+            }
+        };
+        final List<Object> bindValues = DSL.using(this.renderer.configuration()
+            .derive(new DefaultVisitListenerProvider(collector))).extractBindValues(query);
+        if (params.size() != bindValues.size()) {
+            throw new IllegalStateException("[ R2MO ] ( Jooq ) 绑定变量数量不一致：" + params.size() + " / " + bindValues.size());
+        }
+        final List<Object> values = new ArrayList<>(params.size());
+        for (final Param<?> param : params) {
+            values.add(toDatabase(param));
+        }
+        return Tuple.from(values);
+    }
+}
@@ -0,0 +1,68 @@
+package io.r2mo.vertx.jooq.shared.internal.reactive;
+
+import io.r2mo.vertx.jooq.shared.internal.AbstractQueryResult;
+import io.r2mo.vertx.jooq.shared.internal.QueryResult;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import org.jooq.Field;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 响应式模式下的查询结果，直接包装 {@link RowSet} 中的 {@link Row}
+ *
+ * @author lang : 2026-10-18
+ */
+public class ReactiveQueryResult extends AbstractQueryResult {
+
+    private final RowSet<Row> rows;
+    private final Row current;
+
+    public ReactiveQueryResult(final RowSet<Row> rows) {
+        this(rows, first(rows));
+    }
+
+    private ReactiveQueryResult(final RowSet<Row> rows, final Row current) {
+        this.rows = rows;
+        this.current = current;
+    }
+
+    private static Row first(final RowSet<Row> rows) {
+        final Iterator<Row> it = rows.iterator();
+        return it.hasNext() ? it.next() : null;
+    }
+
+    @Override
+    public <T> T get(final Field<T> field) {
+        return this.supplyOrThrow(() -> AbstractReactiveQueryExecutor.fromDatabase(field, this.current.getValue(field.getName())));
+    }
+
+    @Override
+    public <T> T get(final int index, final Class<T> type) {
+        return this.supplyOrThrow(() -> this.current.get(type, index));
+    }
+
+    @Override
+    public <T> T get(final String columnName, final Class<T> type) {
+        return this.supplyOrThrow(() -> this.current.get(type, this.current.getColumnIndex(columnName)));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap() {
+        return (T) this.current;
+    }
+
+    @Override
+    public boolean hasResults() {
+        return this.current != null;
+    }
+
+    @Override
+    public Stream<QueryResult> stream() {
+        return StreamSupport.stream(this.rows.spliterator(), false)
+            .map(row -> new ReactiveQueryResult(this.rows, row));
+    }
+}
@@ -0,0 +1,176 @@
+package io.r2mo.vertx.jooq.shared.internal.reactive;
+
+import io.vertx.sqlclient.Tuple;
+import org.jooq.Configuration;
+import org.jooq.Converter;
+import org.jooq.DSLContext;
+import org.jooq.DataType;
+import org.jooq.Field;
+import org.jooq.Param;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.conf.RenderQuotedNames;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.SQLDataType;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 响应式执行器的 SQL 渲染与绑定变量映射：占位符数量必须与 Tuple 中的绑定值一一对应
+ */
+class ReactiveRenderTest {
+
+    private static final DataType<Boolean> FLAG = SQLDataType.INTEGER.asConvertedDataType(
+        Converter.ofNullable(Integer.class, Boolean.class, value -> 1 == value, value -> value ? 1 : 0));
+
+    private static final Table<?> T_ITEM = DSL.table(DSL.name("item"));
+    private static final Field<Integer> F_ID = DSL.field(DSL.name("id"), SQLDataType.INTEGER);
+    private static final Field<String> F_NAME = DSL.field(DSL.name("name"), SQLDataType.VARCHAR(64));
+    private static final Field<Boolean> F_ACTIVE = DSL.field(DSL.name("active"), FLAG);
+    private static final Field<Boolean> F_ENABLED = DSL.field(DSL.name("enabled"), SQLDataType.BOOLEAN);
+
+    private static AbstractReactiveQueryExecutor executor(final SQLDialect dialect, final Settings settings) {
+        final Configuration configuration = new DefaultConfiguration().set(dialect).set(settings);
+        return new AbstractReactiveQueryExecutor(configuration, null) {
+        };
+    }
+
+    @Test
+    void postgresRepeatedNamedParamBindsEveryPlaceholder() {
+        final AbstractReactiveQueryExecutor executor = executor(SQLDialect.POSTGRES, new Settings());
+        final Param<Integer> id = DSL.param("id", 7);
+        final Query query = DSL.using(SQLDialect.POSTGRES)
+            .selectFrom(T_ITEM).where(F_ID.eq(id).or(F_ID.gt(id)).and(F_NAME.eq("x")));
+
+        final String sql = executor.render(query);
+        final Tuple tuple = executor.toTuple(query);
+
+        assertTrue(sql.contains("$1") && sql.contains("$2") && sql.contains("$3"), sql);
+        assertFalse(sql.contains("$4"), sql);
+        assertEquals(3, tuple.size());
+        assertEquals(7, tuple.getValue(0));
+        assertEquals(7, tuple.getValue(1));
+        assertEquals("x", tuple.getValue(2));
+    }
+
+    @Test
+    void placeholderInsideLiteralIsKept() {
+        final AbstractReactiveQueryExecutor executor = executor(SQLDialect.POSTGRES, new Settings());
+        final Query query = DSL.using(SQLDialect.POSTGRES)
+            .selectFrom(T_ITEM).where(F_NAME.eq(DSL.inline("it's ?")).and(F_ID.eq(1)));
+
+        final String sql = executor.render(query);
+
+        assertTrue(sql.contains("'it''s ?'"), sql);
+        assertTrue(sql.contains("$1"), sql);
+        assertEquals(1, executor.toTuple(query).size());
+    }
+
+    @Test
+    void converterAppliedToBindValue() {
+        final AbstractReactiveQueryExecutor executor = executor(SQLDialect.POSTGRES, new Settings());
+        final Query query = DSL.using(SQLDialect.POSTGRES).selectFrom(T_ITEM).where(F_ACTIVE.eq(true));
+
+        final Tuple tuple = executor.toTuple(query);
+
+        assertEquals(1, tuple.size());
+        assertEquals(1, tuple.getValue(0));
+    }
+
+    @Test
+    void sameValueWithDifferentConvertersBindsPerPosition() {
+        final AbstractReactiveQueryExecutor executor = executor(SQLDialect.POSTGRES, new Settings());
+        // 两个 true 是同一个 Boolean.TRUE 对象，前者经 FLAG 转换为 1，后者保持原生 boolean
+        final Query query = DSL.using(SQLDialect.POSTGRES).selectFrom(T_ITEM)
+            .where(F_ACTIVE.eq(true)).and(F_ENABLED.eq(true)).and(F_ACTIVE.ne(false)).and(F_ENABLED.ne(false));
+
+        final Tuple tuple = executor.toTuple(query);
+
+        assertEquals(4, tuple.size());
+        assertEquals(1, tuple.getValue(0));
+        assertEquals(true, tuple.getValue(1));
+        assertEquals(0, tuple.getValue(2));
+        assertEquals(false, tuple.getValue(3));
+    }
+
+    @Test
+    void configurationSettingsArePreserved() {
+        final AbstractReactiveQueryExecutor executor = executor(SQLDialect.POSTGRES,
+            new Settings().withRenderQuotedNames(RenderQuotedNames.NEVER));
+        final Query query = DSL.using(SQLDialect.POSTGRES).selectFrom(T_ITEM).where(F_ID.eq(1));
+
+        final String sql = executor.render(query);
+
+        assertFalse(sql.contains("\""), sql);
+        assertTrue(sql.contains("$1"), sql);
+    }
+
+    /*
+     * 使用 PostgreSQL 方言渲染（经过 positional 改写为 $n），在 H2 的 PostgreSQL 模式中执行；
+     * H2 不识别 $n，按 ?n（显式序号的 JDBC 参数）执行，序号不变，验证每个 $n 与 Tuple 中第 n 个值对应
+     */
+    @Test
+    void postgresPositionalRoundTrip() throws Exception {
+        final AbstractReactiveQueryExecutor executor = executor(SQLDialect.POSTGRES, new Settings());
+        final DSLContext postgres = DSL.using(SQLDialect.POSTGRES);
+        try (final Connection connection = DriverManager.getConnection(
+            "jdbc:h2:mem:reactive;MODE=PostgreSQL;DB_CLOSE_DELAY=-1")) {
+            connection.createStatement().execute(
+                "CREATE TABLE \"item\" (\"id\" INT PRIMARY KEY, \"name\" VARCHAR(64), \"active\" INT, \"enabled\" BOOLEAN)");
+
+            final Query insert = postgres.insertInto(T_ITEM, F_ID, F_NAME, F_ACTIVE, F_ENABLED)
+                .values(1, "a", true, true)
+                .values(2, "b", false, true)
+                .values(3, "c", true, false)
+                .values(4, "d", true, true);
+            assertEquals(4, execute(connection, executor, insert));
+
+            final Param<Integer> id = DSL.param("id", 2);
+            final Query select = postgres.select(F_ID).from(T_ITEM)
+                .where(F_ACTIVE.eq(true).and(F_ENABLED.eq(true)).and(F_ID.ne(id)))
+                .or(F_ID.eq(id).and(F_NAME.eq("never")))
+                .orderBy(F_ID);
+            final List<Integer> ids = new ArrayList<>();
+            try (final PreparedStatement statement = prepare(connection, executor, select);
+                 final ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getInt(1));
+                }
+            }
+            assertEquals(List.of(1, 4), ids);
+        }
+    }
+
+    private static int execute(final Connection connection, final AbstractReactiveQueryExecutor executor,
+                               final Query query) throws Exception {
+        try (final PreparedStatement statement = prepare(connection, executor, query)) {
+            return statement.executeUpdate();
+        }
+    }
+
+    private static PreparedStatement prepare(final Connection connection, final AbstractReactiveQueryExecutor executor,
+                                             final Query query) throws Exception {
+        final String sql = executor.render(query);
+        assertTrue(sql.contains("$1") && !sql.contains("?"), sql);
+        final Tuple tuple = executor.toTuple(query);
+        final PreparedStatement statement = connection.prepareStatement(sql.replaceAll("\\$(\\d+)", "?$1"));
+        assertEquals(statement.getParameterMetaData().getParameterCount(), tuple.size(), sql);
+        for (int index = 0; index < tuple.size(); index++) {
+            statement.setObject(index + 1, tuple.getValue(index));
+        }
+        return statement;
+    }
+}
@@ -41,7 +41,7 @@ public abstract class AbstractVertxDAO<R extends UpdatableRecord<R>, P, T, FIND_
 
     private final Class<P> type;
     private final Table<R> table;
-    private final QueryExecutor<R, T, FIND_MANY, FIND_ONE, EXECUTE, INSERT_RETURNING> queryExecutor;
+    private QueryExecutor<R, T, FIND_MANY, FIND_ONE, EXECUTE, INSERT_RETURNING> queryExecutor;
 
     protected AbstractVertxDAO(final Table<R> table, final Class<P> type, final QueryExecutor<R, T, FIND_MANY, FIND_ONE, EXECUTE, INSERT_RETURNING> queryExecutor) {
         this.type = type;
@@ -62,6 +62,15 @@ public abstract class AbstractVertxDAO<R extends UpdatableRecord<R>, P, T, FIND_
         return this.queryExecutor;
     }
 
+    /**
+     * 替换查询执行器，生成的 DAO 默认使用 JDBC 执行器，按数据源切换为响应式执行器时调用
+     *
+     * @param queryExecutor 新的查询执行器
+     */
+    public void queryExecutor(final QueryExecutor<R, T, FIND_MANY, FIND_ONE, EXECUTE, INSERT_RETURNING> queryExecutor) {
+        this.queryExecutor = Objects.requireNonNull(queryExecutor);
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public EXECUTE update(final P object) {
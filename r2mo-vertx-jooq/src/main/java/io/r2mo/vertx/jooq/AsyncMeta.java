@@ -1,12 +1,16 @@
 package io.r2mo.vertx.jooq;
 
 import io.r2mo.SourceReflect;
+import io.r2mo.base.dbe.Database;
 import io.r2mo.base.program.R2Vector;
 import io.r2mo.dbe.jooq.core.domain.JooqMeta;
 import io.r2mo.dbe.jooq.spi.LoadREF;
 import io.r2mo.typed.cc.Cc;
 import io.r2mo.typed.exception.web._500ServerInternalException;
 import io.r2mo.vertx.jooq.classic.VertxDAO;
+import io.r2mo.vertx.jooq.classic.reactive.ReactiveClassicQueryExecutor;
+import io.r2mo.vertx.jooq.classic.reactive.ReactivePool;
+import io.r2mo.vertx.jooq.shared.internal.AbstractVertxDAO;
 import io.vertx.core.Vertx;
 import lombok.Getter;
 import lombok.experimental.Accessors;
@@ -38,7 +42,7 @@ public class AsyncMeta {
     @SuppressWarnings("all")
     private VertxDAO dao;
 
-    private AsyncMeta(final Class<?> daoCls, final DSLContext context, final Vertx vertxRef) {
+    private AsyncMeta(final Class<?> daoCls, final DSLContext context, final Vertx vertxRef, final Database database) {
         this.daoCls = daoCls;
         if (!SourceReflect.isImplement(daoCls, VertxDAO.class)) {
             throw new _500ServerInternalException("[ R2MO ] 仅支持 VertxDAO 类型的 DAO 类：" + daoCls.getName());
@@ -60,6 +64,16 @@ public class AsyncMeta {
         LoadREF.of().registry(daoCls, entityCls, table);
 
         CC_META_REF.put(entityCls, daoCls);
+        /*
+         * 数据源开启 reactive 时，DAO 的查询执行器替换为响应式 SQL 客户端，SQL 仍由 jOOQ 构造，
+         * 执行不再经过 executeBlocking 的 Worker 线程池
+         */
+        if (ReactivePool.enabled(database) && vertxDAO instanceof final AbstractVertxDAO abstractDAO) {
+            @SuppressWarnings("all") final ReactiveClassicQueryExecutor reactive = new ReactiveClassicQueryExecutor(
+                configuration, ReactivePool.of(vertxRef, database), entityCls, table);
+            abstractDAO.queryExecutor(reactive);
+            log.info("[ R2MO ] ( Jooq ) {} 使用响应式执行器", daoCls.getName());
+        }
         this.dao = vertxDAO;
         this.metadata = JooqMeta.of(entityCls, table);
     }
@@ -74,8 +88,22 @@ public class AsyncMeta {
      * @return AsyncMeta 实例对象
      */
     public static AsyncMeta of(final Class<?> daoCls, final DSLContext context, final Vertx vertxRef) {
+        return of(daoCls, context, vertxRef, null);
+    }
+
+    /**
+     * 带数据库定义的初始化，{@link Database} 的 options 中开启 reactive 时使用响应式执行器
+     *
+     * @param daoCls   VertxDao 实现类
+     * @param context  Jooq 上下文
+     * @param vertxRef Vertx 对象引用
+     * @param database 数据库定义
+     *
+     * @return AsyncMeta 实例对象
+     */
+    public static AsyncMeta of(final Class<?> daoCls, final DSLContext context, final Vertx vertxRef, final Database database) {
         return CC_META.pick(() -> {
-            final AsyncMeta instance = new AsyncMeta(daoCls, context, vertxRef);
+            final AsyncMeta instance = new AsyncMeta(daoCls, context, vertxRef, database);
             log.debug("[ R2MO ] ( Jooq ) Async 异步初始化完成 hashCode = {}", instance.hashCode());
             return instance;
         }, daoCls);
@@ -51,7 +51,7 @@ class DBExBase<T> {
         Objects.requireNonNull(this.vertxRef, "[ R2MO ] (ADB) 关键步骤 DBS 无法初始化 Vertx 引用！");
 
 
-        final AsyncMeta metaAsync = AsyncMeta.of(daoCls, jooqDatabase.getContext(), this.vertxRef);
+        final AsyncMeta metaAsync = AsyncMeta.of(daoCls, jooqDatabase.getContext(), this.vertxRef, database);
         this.metadata = metaAsync;
 
 
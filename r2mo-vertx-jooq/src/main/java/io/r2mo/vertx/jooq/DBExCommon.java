@@ -8,6 +8,7 @@ import io.r2mo.typed.json.JObject;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -419,8 +420,9 @@ class DBExCommon<T> extends DBExBase<T> {
         return this.dbe.findManyIn(field, values);
     }
 
-    public List<T> findManyIn(final String field, final List<?> values) {
-        return this.dbe.findManyIn(field, values);
+    public List<T> findManyIn(final String field, final Collection<?> values) {
+        // Collection 展开为数组，避免整体作为可变参数的单个元素，超长列表才能进入切片查询
+        return this.dbe.findManyIn(field, values.toArray());
     }
 
     // ==================== CRUD 方法 ====================
@@ -9,6 +9,7 @@ import io.vertx.core.Future;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
@@ -395,8 +396,9 @@ class DBExFuture<T> extends DBExCommon<T> {
         return this.dbeAsync.findManyInAsync(field, values);
     }
 
-    public Future<List<T>> findManyInAsync(final String field, final List<?> values) {
-        return this.dbeAsync.findManyInAsync(field, values);
+    public Future<List<T>> findManyInAsync(final String field, final Collection<?> values) {
+        // Collection 展开为数组，避免整体作为可变参数的单个元素，超长列表才能进入切片查询
+        return this.dbeAsync.findManyInAsync(field, values.toArray());
     }
 
     // ========== CRUD ==========
@@ -6,9 +6,14 @@ import io.r2mo.base.dbe.syntax.QTree;
 import io.r2mo.base.util.R2MO;
 import io.r2mo.typed.common.Pagination;
 import io.r2mo.typed.json.JObject;
+import io.r2mo.vertx.function.FnLimit;
+import io.r2mo.vertx.function.FnVertx;
 import io.vertx.core.Future;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -16,6 +21,10 @@ import java.util.Map;
  * @author lang : 2025-10-19
  */
 public abstract class AsyncDBE<QR, T, METADATA> extends AsyncDBEAggr<QR, T, METADATA> {
+    // findManyInAsync 单次 IN 条件的最大值数量，超过时切片查询
+    private int pInSize = 1000;
+    // findManyInAsync 同时在途的切片数量
+    private int pInParallel = 4;
 
     protected AsyncDBE(final Class<T> entityCls, final METADATA meta) {
         super(entityCls, meta);
@@ -113,14 +122,38 @@ public abstract class AsyncDBE<QR, T, METADATA> extends AsyncDBEAggr<QR, T, META
     }
 
     public Future<List<T>> findManyInAsync(final String field, final Object... values) {
-        final QR condition = this.qrAnalyzer.whereIn(field, values);
-        return this.opVary.findManyAsync(condition);
+        final int size = Math.max(1, this.pInSize);
+        if (values.length <= size) {
+            final QR condition = this.qrAnalyzer.whereIn(field, values);
+            return this.opVary.findManyAsync(condition);
+        }
+        // 超长 IN 条件：去重后切片，最多 pInParallel 个切片同时在途，结果按切片顺序合并
+        final List<Object> distinct = new ArrayList<>(new LinkedHashSet<>(Arrays.asList(values)));
+        return FnVertx.compressL(distinct,
+            slice -> this.opVary.findManyAsync(this.qrAnalyzer.whereIn(field, slice.toArray())),
+            FnLimit.of(Math.max(1, this.pInParallel)).batch(size));
     }
 
     public Future<List<T>> findManyInAsync(final String field, final List<?> values) {
         return this.findManyInAsync(field, values.toArray());
     }
 
+    public int pInSize() {
+        return this.pInSize;
+    }
+
+    public void pInSize(final int pInSize) {
+        this.pInSize = pInSize;
+    }
+
+    public int pInParallel() {
+        return this.pInParallel;
+    }
+
+    public void pInParallel(final int pInParallel) {
+        this.pInParallel = pInParallel;
+    }
+
     // ======================= CRUD (Async) =======================
     public Future<T> createAsync(final T entity) {
         return this.opDb.executeAsync(entity, OpType.CREATE);
@@ -0,0 +1,113 @@
+package io.r2mo.vertx.function;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 限流编排配置，配合 {@link FnVertx} 中带 {@link FnLimit} 参数的 combineT / combineB / combineA / compressL 使用
+ * <pre>
+ *     配置：
+ *     - concurrency：同时在途的异步任务上限
+ *     - batch：compressL 中每组输入的数量，默认 1
+ *     - failFast：true（默认）时第一个失败立即结束并停止派发，false 时执行完全部任务后汇总异常
+ *     指标（同一个实例多次使用时累加）：
+ *     - pending：排队中尚未派发的任务数（队列深度），peak 为观察到的最大队列深度
+ *     - inFlight：正在执行的任务数
+ *     - completed / failed：已完成 / 已失败的任务数
+ * </pre>
+ *
+ * @author lang : 2026-10-18
+ */
+public class FnLimit {
+
+    private final int concurrency;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger peak = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private int batch = 1;
+    private boolean failFast = true;
+
+    private FnLimit(final int concurrency) {
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    public static FnLimit of(final int concurrency) {
+        return new FnLimit(concurrency);
+    }
+
+    public FnLimit batch(final int batch) {
+        this.batch = Math.max(1, batch);
+        return this;
+    }
+
+    public FnLimit failFast(final boolean failFast) {
+        this.failFast = failFast;
+        return this;
+    }
+
+    public int concurrency() {
+        return this.concurrency;
+    }
+
+    public int batch() {
+        return this.batch;
+    }
+
+    public boolean isFailFast() {
+        return this.failFast;
+    }
+
+    // ---- 指标
+
+    public int pending() {
+        return this.pending.get();
+    }
+
+    public int peak() {
+        return this.peak.get();
+    }
+
+    public int inFlight() {
+        return this.inFlight.get();
+    }
+
+    public long completed() {
+        return this.completed.get();
+    }
+
+    public long failed() {
+        return this.failed.get();
+    }
+
+    @Override
+    public String toString() {
+        return "FnLimit{concurrency=" + this.concurrency + ", pending=" + this.pending.get()
+            + ", peak=" + this.peak.get() + ", inFlight=" + this.inFlight.get()
+            + ", completed=" + this.completed.get() + ", failed=" + this.failed.get() + "}";
+    }
+
+    void onQueue(final int size) {
+        final int depth = this.pending.addAndGet(size);
+        this.peak.accumulateAndGet(depth, Math::max);
+    }
+
+    void onStart() {
+        this.pending.decrementAndGet();
+        this.inFlight.incrementAndGet();
+    }
+
+    void onEnd(final boolean success) {
+        this.inFlight.decrementAndGet();
+        if (success) {
+            this.completed.incrementAndGet();
+        } else {
+            this.failed.incrementAndGet();
+        }
+    }
+
+    void onDrop(final int size) {
+        this.pending.addAndGet(-size);
+    }
+}
@@ -0,0 +1,170 @@
+package io.r2mo.vertx.function;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 限流编排，同一时刻最多 {@link FnLimit#concurrency()} 个异步任务在途，任务完成后再派发下一个
+ * <pre>
+ *     1. 结果按输入顺序组装，null 结果与 {@link FnCombine} 一致被过滤
+ *     2. 派发采用 wip 计数的循环，已完成的 Future 同步回调时不会递归调用，输入很大时也不会栈溢出
+ *     3. 回调可能来自不同的线程（Worker / 其他 Context），状态修改统一在锁内进行
+ * </pre>
+ *
+ * @author lang : 2026-10-18
+ */
+class FnThrottle {
+    private FnThrottle() {
+    }
+
+    static <I, T> Future<List<T>> combineT(final List<I> source,
+                                           final Function<I, Future<T>> generateFun,
+                                           final FnLimit limit) {
+        Objects.requireNonNull(limit, "[ R2MO ] 限流配置不可为空！");
+        if (Objects.isNull(source) || source.isEmpty()) {
+            return Future.succeededFuture(new ArrayList<>());
+        }
+        return new Run<>(source, generateFun, limit).start()
+            .recover(FnOut.recoverFn(ArrayList::new));
+    }
+
+    static <I, T> Future<List<T>> compressL(final List<I> source,
+                                            final Function<List<I>, Future<List<T>>> generateFun,
+                                            final FnLimit limit) {
+        Objects.requireNonNull(limit, "[ R2MO ] 限流配置不可为空！");
+        if (Objects.isNull(source) || source.isEmpty()) {
+            return Future.succeededFuture(new ArrayList<>());
+        }
+        final int size = source.size();
+        final int step = limit.batch();
+        final List<List<I>> groups = new ArrayList<>((size + step - 1) / step);
+        for (int start = 0; start < size; start += step) {
+            groups.add(source.subList(start, Math.min(size, start + step)));
+        }
+        return combineT(groups, generateFun, limit).map(nested -> {
+            final List<T> result = new ArrayList<>(size);
+            nested.forEach(result::addAll);
+            return result;
+        });
+    }
+
+    private static final class Run<I, T> {
+        private final List<I> source;
+        private final Function<I, Future<T>> generateFun;
+        private final FnLimit limit;
+        private final Object[] results;
+        private final Promise<List<T>> promise = Promise.promise();
+        private final AtomicInteger wip = new AtomicInteger();
+        private int next = 0;
+        private int running = 0;
+        private int done = 0;
+        private Throwable error;
+
+        private Run(final List<I> source, final Function<I, Future<T>> generateFun, final FnLimit limit) {
+            this.source = source;
+            this.generateFun = generateFun;
+            this.limit = limit;
+            this.results = new Object[source.size()];
+        }
+
+        private Future<List<T>> start() {
+            this.limit.onQueue(this.source.size());
+            this.drain();
+            return this.promise.future();
+        }
+
+        private void drain() {
+            if (0 != this.wip.getAndIncrement()) {
+                return;
+            }
+            int missed = 1;
+            do {
+                while (true) {
+                    final int index;
+                    synchronized (this) {
+                        if (this.stopped() || this.next >= this.results.length || this.running >= this.limit.concurrency()) {
+                            break;
+                        }
+                        index = this.next++;
+                        this.running++;
+                    }
+                    this.limit.onStart();
+                    Future<T> future;
+                    try {
+                        future = this.generateFun.apply(this.source.get(index));
+                    } catch (final Throwable ex) {
+                        future = Future.failedFuture(ex);
+                    }
+                    (Objects.isNull(future) ? Future.<T>succeededFuture() : future)
+                        .onComplete(ar -> this.complete(index, ar));
+                }
+                missed = this.wip.addAndGet(-missed);
+            } while (0 != missed);
+        }
+
+        private void complete(final int index, final AsyncResult<T> ar) {
+            this.limit.onEnd(ar.succeeded());
+            final boolean finished;
+            int dropped = 0;
+            synchronized (this) {
+                this.running--;
+                this.done++;
+                if (ar.succeeded()) {
+                    this.results[index] = ar.result();
+                } else if (Objects.isNull(this.error)) {
+                    this.error = ar.cause();
+                    if (this.limit.isFailFast()) {
+                        // 快速失败：剩余的任务不再派发，从队列深度中移除
+                        dropped = this.results.length - this.next;
+                        this.next = this.results.length;
+                    }
+                } else if (!this.limit.isFailFast()) {
+                    this.error.addSuppressed(ar.cause());
+                }
+                finished = this.done == this.next && this.next == this.results.length;
+            }
+            if (0 < dropped) {
+                this.limit.onDrop(dropped);
+            }
+            if (this.stopped()) {
+                this.promise.tryFail(this.error);
+                return;
+            }
+            if (finished) {
+                this.finish();
+                return;
+            }
+            this.drain();
+        }
+
+        private synchronized boolean stopped() {
+            return Objects.nonNull(this.error) && this.limit.isFailFast();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void finish() {
+            final Throwable failure;
+            synchronized (this) {
+                failure = this.error;
+            }
+            if (Objects.nonNull(failure)) {
+                this.promise.tryFail(failure);
+                return;
+            }
+            final List<T> result = new ArrayList<>(this.results.length);
+            for (final Object item : this.results) {
+                if (Objects.nonNull(item)) {
+                    result.add((T) item);
+                }
+            }
+            this.promise.tryComplete(result);
+        }
+    }
+}
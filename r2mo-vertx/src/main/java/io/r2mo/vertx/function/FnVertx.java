@@ -95,6 +95,26 @@ public class FnVertx {
         return FnJArray.combineA(input, generateOf);
     }
 
+    /**
+     * 一维组合编排函数的限流版本，执行流程同 {@link #combineA(JsonArray, Function)}，区别在于同一时刻最多
+     * {@link FnLimit#concurrency()} 个 generateOf 在途，结果按输入顺序组装
+     *
+     * @param input      JsonArray 输入的异步结果，结果内是 JsonArray
+     * @param generateOf 元素生成函数，针对JsonArray中的每一个 JsonObject 函数执行 generateOf
+     * @param limit      限流配置
+     * @return 返回执行过的结果数组 Future<JsonArray>
+     */
+    public static Future<JsonArray> combineA(final JsonArray input,
+                                             final Function<JsonObject, Future<JsonObject>> generateOf,
+                                             final FnLimit limit) {
+        final List<JsonObject> source = new ArrayList<>();
+        input.stream()
+            .filter(item -> item instanceof JsonObject)
+            .map(item -> (JsonObject) item)
+            .forEach(source::add);
+        return FnThrottle.combineT(source, generateOf, limit).map(JsonArray::new);
+    }
+
 
     /**
      * 一维组合编排函数，其执行流程
@@ -199,6 +219,23 @@ public class FnVertx {
         return FnCombine.combineT(futures).compose(nil -> Future.succeededFuture(Boolean.TRUE));
     }
 
+    /**
+     * ✅ 组合函数 - 布尔结果版本 - 限流 List
+     *
+     * <p>🎯 功能描述：对同步集合执行异步操作并返回布尔结果，同一时刻最多 {@link FnLimit#concurrency()} 个操作在途
+     *
+     * @param source      📥 输入的同步集合
+     * @param generateFun 🔧 生成异步操作的函数
+     * @param limit       🚦 限流配置（并发上限 / 快速失败 / 队列指标）
+     * @param <I>         💾 输入类型
+     * @param <T>         💾 中间类型
+     * @return Future<Boolean> 🌟 返回执行状态，成功为 true
+     */
+    public static <I, T> Future<Boolean> combineB(final List<I> source, final Function<I, Future<T>> generateFun,
+                                                  final FnLimit limit) {
+        return FnThrottle.combineT(source, generateFun, limit).compose(nil -> Future.succeededFuture(Boolean.TRUE));
+    }
+
     // -------------------------------------------------------------------------
     // C - combineJ
     // -------------------------------------------------------------------------
@@ -451,6 +488,40 @@ public class FnVertx {
         return FnCombine.combineT(futures);
     }
 
+    /**
+     * 🔄 组合函数的同步模式 - 限流 List 版本
+     *
+     * <p>📊 执行流程图：
+     * <pre><code>
+     * [
+     * i  -->       fx      ( t )       ( 最多 concurrency 个在途，完成一个派发一个 )
+     * i  -->       fx      ( t )            --> ( [ t, t, t ] )
+     * i  -->     ( 排队 )
+     * ]
+     * </code></pre>
+     *
+     * <p>🎯 功能描述：与 {@link #combineT(List, Function)} 相同，但不会一次性派发全部异步任务，
+     * 适合在 EventLoop 中对大量输入（如上万个主键）扇出访问数据库
+     *
+     * <p>🏗️ 设计理由：
+     * • 🚦 并发上限：避免瞬间打满连接池
+     * • 📦 顺序组装：结果与输入顺序一致
+     * • ⚠️ 失败策略：快速失败或执行完毕后汇总异常（其余异常以 suppressed 附加）
+     * • 📈 队列指标：排队深度、在途数量可通过 {@link FnLimit} 读取
+     *
+     * @param source     📥 输入的集合 List<I>
+     * @param combinerOf 🔧 Function<I, Future<T>> 组合函数，输入为 I，输出为 Future<T>
+     * @param limit      🚦 限流配置
+     * @param <I>        💾 输入类型I
+     * @param <T>        🎯 输出类型T
+     * @return Future<List<T>> 🌟 返回执行过的结果数组
+     */
+    public static <I, T> Future<List<T>> combineT(final List<I> source,
+                                                  final Function<I, Future<T>> combinerOf,
+                                                  final FnLimit limit) {
+        return FnThrottle.combineT(source, combinerOf, limit);
+    }
+
     /**
      * 🔄 二元组合函数 - Future 合并模式
      *
@@ -677,6 +748,31 @@ public class FnVertx {
         return FnReduce.compressL(futures);
     }
 
+    /**
+     * 分组限流的压缩函数，输入按 {@link FnLimit#batch()} 分组，每组执行一次 generateFun，
+     * 同一时刻最多 {@link FnLimit#concurrency()} 组在途，最终按输入顺序拉平成单列表
+     *
+     * <pre><code>
+     * [
+     * [i,i,i]      -->    fx    -->  ( [t,t,t] )
+     * [i,i,i]      -->    fx    -->  ( [t,t,t] )    -->  ( [t,t,t,   t,t,t,   t] )
+     * [i]          -->  ( 排队 )
+     * ]
+     * </code></pre>
+     *
+     * @param source      输入的集合 List<I>
+     * @param generateFun 针对每一组输入生成 Future<List<T>> 的函数，如 IN 条件查询
+     * @param limit       限流配置
+     * @param <I>         输入类型I
+     * @param <T>         输出类型T
+     * @return Future<List<T>> 返回执行过的压缩结果
+     */
+    public static <I, T> Future<List<T>> compressL(final List<I> source,
+                                                   final Function<List<I>, Future<List<T>>> generateFun,
+                                                   final FnLimit limit) {
+        return FnThrottle.compressL(source, generateFun, limit);
+    }
+
     // -------------------------------------------------------------------------
     // C - compressM
     // -------------------------------------------------------------------------